@@ -0,0 +1,62 @@
+package com.otaku.wallet.benchmark;
+
+import com.otaku.wallet.domain.Expense;
+import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.dto.ExpenseDto;
+import com.otaku.wallet.session.UserIds;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// DB 없이 엔티티 → DTO 변환, 표시 금액 계산 비용만 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpenseMappingBenchmark {
+
+    @Param({"10000"})
+    private int rows;
+
+    private List<Expense> expenses;
+
+    @Setup
+    public void setUp() {
+        ExpenseCategory[] categories = ExpenseCategory.values();
+        expenses = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            expenses.add(Expense.builder()
+                    .id((long) i)
+                    .userId(UserIds.next())
+                    .amount(1000L + i)
+                    .category(categories[i % categories.length])
+                    .description("벤치마크 지출 " + i)
+                    .satisfactionRating(i % 5 + 1)
+                    .purchaseDate(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+                    .build());
+        }
+    }
+
+    // 목록 응답 한 번 만드는 비용 (rows건)
+    @Benchmark
+    public void responseFrom(Blackhole blackhole) {
+        for (Expense expense : expenses) {
+            blackhole.consume(ExpenseDto.Response.from(expense));
+        }
+    }
+
+    // 표시 금액 재계산 비용 (rows건)
+    @Benchmark
+    public void calculateDisplayAmount(Blackhole blackhole) {
+        for (Expense expense : expenses) {
+            expense.calculateDisplayAmount();
+            blackhole.consume(expense.getDisplayAmount());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.otaku.wallet.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.otaku.wallet.domain.Expense;
+import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.dto.ExpenseDto;
+import com.otaku.wallet.dto.ExpenseResponseSerializer;
+import com.otaku.wallet.session.UserIds;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 응답(rows건) JSON 직렬화 비용 - 기본 BeanSerializer vs ExpenseResponseSerializer
+// 할당량 비교: -Djmh.args="ExpenseSerializationBenchmark -prof gc" 후 gc.alloc.rate.norm (B/op)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpenseSerializationBenchmark {
+
+    private static final TypeReference<List<ExpenseDto.Response>> RESPONSE_LIST = new TypeReference<>() {
+    };
+
+    @Param({"10000"})
+    private int rows;
+
+    private List<Expense> expenses;
+    private List<ExpenseDto.Response> responses;
+    private ObjectWriter reflectiveWriter;
+    private ObjectWriter dedicatedWriter;
+
+    @Setup
+    public void setUp() {
+        ExpenseCategory[] categories = ExpenseCategory.values();
+        expenses = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            expenses.add(Expense.builder()
+                    .id((long) i)
+                    .userId(UserIds.next())
+                    .amount(1000L + i)
+                    .category(categories[i % categories.length])
+                    .description("벤치마크 지출 " + i)
+                    .satisfactionRating(i % 5 + 1)
+                    .purchaseDate(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+                    .build());
+        }
+        responses = expenses.stream().map(ExpenseDto.Response::from).toList();
+
+        reflectiveWriter = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(RESPONSE_LIST);
+        dedicatedWriter = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new SimpleModule().addSerializer(ExpenseDto.Response.class, new ExpenseResponseSerializer()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(RESPONSE_LIST);
+    }
+
+    // 기본 BeanSerializer (리플렉션으로 getter 호출)
+    @Benchmark
+    public void reflective() throws IOException {
+        write(reflectiveWriter, responses);
+    }
+
+    // 필드 이름/카테고리를 미리 인코딩한 전용 직렬화기
+    @Benchmark
+    public void dedicated() throws IOException {
+        write(dedicatedWriter, responses);
+    }
+
+    // 엔티티 → 응답 변환 + 전용 직렬화기 (실제 목록 API 경로)
+    @Benchmark
+    public void mapAndDedicated() throws IOException {
+        write(dedicatedWriter, expenses.stream().map(ExpenseDto.Response::from).toList());
+    }
+
+    private static void write(ObjectWriter writer, List<ExpenseDto.Response> values) throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), values);
+    }
+}
@@ -0,0 +1,136 @@
+package com.otaku.wallet.benchmark;
+
+import com.otaku.wallet.OtakuWalletApplication;
+import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.service.ExpenseService;
+import com.otaku.wallet.service.ExpenseSummaryRebuildJob;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 H2에 rows건을 users명에게 나눠 넣고 한 사용자의 목록/통계 조회 비용을 측정
+ * 조회 캐시는 매 호출 전에 비워서 DB 경로를 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ExpenseServiceBenchmark {
+
+    private static final int INSERT_BATCH = 1000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    @Param({"100"})
+    private int users;
+
+    private ConfigurableApplicationContext context;
+    private ExpenseService expenseService;
+    private CacheManager cacheManager;
+    private UUID userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(OtakuWalletApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + rows + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "otaku.summary.rebuild-cron=-",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        expenseService = context.getBean(ExpenseService.class);
+        cacheManager = context.getBean(CacheManager.class);
+        userId = userId(0);
+
+        seed(context.getBean(JdbcTemplate.class));
+        context.getBean(ExpenseSummaryRebuildJob.class).rebuildAll();
+    }
+
+    @Setup(Level.Invocation)
+    public void clearCaches() {
+        cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .forEach(Cache::clear);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object getAllExpenses() {
+        return expenseService.getAllExpenses(userId);
+    }
+
+    @Benchmark
+    public Object getStatistics() {
+        return expenseService.getStatistics(userId);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        ExpenseCategory[] categories = ExpenseCategory.values();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+
+        for (int i = 0; i < rows; i++) {
+            int rating = i % 5 + 1;
+            long amount = 1000L + i % 100_000;
+            batch.add(new Object[]{
+                    (long) i + 1,
+                    userId(i % users),
+                    amount,
+                    rating == 5 ? 0L : amount,
+                    categories[i % categories.length].name(),
+                    rating,
+                    rating == 5,
+                    "벤치마크 지출 " + i,
+                    Date.valueOf(LocalDate.of(2024, 1, 1).plusDays(i % 365)),
+                    now,
+                    now,
+                    0L
+            });
+            if (batch.size() == INSERT_BATCH) {
+                insert(jdbcTemplate, batch);
+            }
+        }
+        insert(jdbcTemplate, batch);
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO expenses (id, user_id, amount, display_amount, category, " +
+                "satisfaction_rating, is_satisfied, description, purchase_date, created_at, updated_at, version) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    private static UUID userId(int index) {
+        return UUID.nameUUIDFromBytes(("benchmark-user-" + index).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,177 @@
+package com.otaku.wallet.benchmark;
+
+import com.otaku.wallet.OtakuWalletApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 부하 비교
+ * 같은 커넥션 풀 설정으로 애플리케이션을 두 번 띄우고 (두 번째는 virtual 프로필)
+ * 동시 사용자 clients명이 목록/통계/등록을 섞어 호출
+ * 결과(처리량, p50/p99 지연, 오류 수)를 target/vthread-load-result.json 으로 저장
+ *
+ * 실행: ./mvnw -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *         -Dexec.mainClass=com.otaku.wallet.benchmark.VirtualThreadLoadTest -Dexec.args="400 20"
+ * 인자: 동시 사용자 수(기본 400), 측정 시간 초(기본 20)
+ * 가상 스레드 모드의 pinning 경고는 실행 로그의 "Virtual thread pinned" 로 확인
+ */
+public class VirtualThreadLoadTest {
+
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final List<String> POOL_SETTINGS = List.of(
+            "--otaku.datasource.pool.size-per-core=2",
+            "--otaku.datasource.pool.spare=1",
+            "--spring.datasource.hikari.connection-timeout=3000"
+    );
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 20);
+
+        Result platform = run("platform", false, clients, duration);
+        Result virtual = run("virtual", true, clients, duration);
+
+        String json = "[\n  " + platform.toJson() + ",\n  " + virtual.toJson() + "\n]\n";
+        Path output = Path.of("target", "vthread-load-result.json");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, json);
+        System.out.println(json);
+    }
+
+    private static Result run(String mode, boolean virtualThreads, int clients, Duration duration) throws Exception {
+        // 명령행 인자로 넘겨 application.properties / 프로필 값보다 우선 적용
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--otaku.summary.rebuild-cron=-",
+                "--logging.level.root=WARN",
+                "--logging.level.com.otaku.wallet.metrics=INFO"
+        ));
+        // 두 모드 모두 같은 커넥션 풀 (application-virtual.properties와 같은 코어 수 * 2 + 1, 3초 대기)
+        args.addAll(POOL_SETTINGS);
+
+        SpringApplicationBuilder application = new SpringApplicationBuilder(OtakuWalletApplication.class);
+        if (virtualThreads) {
+            // 가상 스레드 모드는 실제 virtual 프로필 전체로 실행 (Tomcat 연결 수 제한, pinning 감시 포함)
+            application.profiles("virtual");
+        }
+
+        try (ConfigurableApplicationContext context = application.run(args.toArray(String[]::new))) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+
+            drive(baseUrl, clients, WARMUP);
+            List<long[]> samples = drive(baseUrl, clients, duration);
+            return Result.of(mode, clients, duration, samples);
+        }
+    }
+
+    // 각 클라이언트가 자기 세션(쿠키)으로 등록 1회 + 목록/통계 조회를 반복
+    private static List<long[]> drive(String baseUrl, int clients, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> client(baseUrl, deadline)));
+            }
+        }
+
+        List<long[]> samples = new ArrayList<>();
+        for (Future<long[]> future : futures) {
+            samples.add(future.get());
+        }
+        return samples;
+    }
+
+    // [0] = 오류 수, [1..] = 요청별 지연(ns)
+    private static long[] client(String baseUrl, long deadline) {
+        HttpClient http = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest create = HttpRequest.newBuilder(URI.create(baseUrl + "/api/expenses"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"amount\":10000,\"category\":\"GOODS\","
+                        + "\"satisfactionRating\":4,\"purchaseDate\":\"" + LocalDate.now() + "\"}"))
+                .build();
+        HttpRequest list = HttpRequest.newBuilder(URI.create(baseUrl + "/api/expenses/page?size=20")).build();
+        HttpRequest statistics = HttpRequest.newBuilder(URI.create(baseUrl + "/api/expenses/statistics")).build();
+        HttpRequest[] mix = {create, list, statistics, list, statistics};
+
+        long[] latencies = new long[1024];
+        int count = 1;
+        long errors = 0;
+        for (int i = 0; System.nanoTime() < deadline; i++) {
+            long start = System.nanoTime();
+            try {
+                int status = http.send(mix[i % mix.length], HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status >= 400) {
+                    errors++;
+                }
+            } catch (IOException e) {
+                errors++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - start;
+        }
+        latencies[0] = errors;
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private record Result(String mode, int clients, long requests, long errors,
+                          double throughput, double p50Millis, double p99Millis) {
+
+        static Result of(String mode, int clients, Duration duration, List<long[]> samples) {
+            long errors = samples.stream().mapToLong(sample -> sample[0]).sum();
+            long[] latencies = samples.stream()
+                    .flatMapToLong(sample -> Arrays.stream(sample, 1, sample.length))
+                    .sorted()
+                    .toArray();
+            return new Result(mode, clients, latencies.length, errors,
+                    latencies.length / (double) duration.toSeconds(),
+                    percentile(latencies, 0.50), percentile(latencies, 0.99));
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"mode\":\"%s\",\"clients\":%d,\"requests\":%d,\"errors\":%d,"
+                            + "\"throughput\":%.1f,\"p50Millis\":%.2f,\"p99Millis\":%.2f}",
+                    mode, clients, requests, errors, throughput, p50Millis, p99Millis);
+        }
+    }
+}
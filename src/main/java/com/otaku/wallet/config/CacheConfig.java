@@ -0,0 +1,65 @@
+package com.otaku.wallet.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Caffeine 기반 조회 캐시 설정
+ * 캐시 키는 모두 userId로 시작하고, 등록/수정/삭제 시 해당 사용자 항목만 제거
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EXPENSE = "expense";
+    public static final String EXPENSE_LIST = "expenseList";
+    public static final String STATISTICS = "statistics";
+
+    @Bean
+    public CacheManager cacheManager(ExpenseCacheProperties properties) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                cache(EXPENSE, properties.expense()),
+                cache(EXPENSE_LIST, properties.expenseList()),
+                cache(STATISTICS, properties.statistics())
+        ));
+        return cacheManager;
+    }
+
+    @Bean
+    public CacheMeterBinderProvider<InvalidationGuardedCache> invalidationGuardedCacheMeterBinderProvider() {
+        return new InvalidationGuardedCacheMeterBinderProvider();
+    }
+
+    // 캐시 저장/제거를 트랜잭션 커밋 이후로 미뤄 롤백된 값이나 커밋 전 값이 캐시에 남지 않게 하고,
+    // 조회 중에 제거된 키에는 (커밋 후로 미뤄진) 이전 조회 결과를 저장하지 않음
+    // SimpleCacheManager는 transactionAware 설정이 없으므로 캐시마다 직접 감쌈
+    private static Cache cache(String name, ExpenseCacheProperties.Spec spec) {
+        return new TransactionAwareCacheDecorator(new InvalidationGuardedCache(caffeineCache(name, spec)));
+    }
+
+    private static CaffeineCache caffeineCache(String name, ExpenseCacheProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfterWrite(spec.expireAfterWrite())
+                .recordStats();
+        if (spec.isWeighted()) {
+            // 목록은 항목마다 행 수가 크게 달라 행 수 합계로 제한
+            builder.maximumWeight(spec.maximumWeight())
+                    .weigher((key, value) -> value instanceof Collection<?> rows ? rows.size() + 1 : 1);
+        } else {
+            builder.maximumSize(spec.maximumSize());
+        }
+        return new CaffeineCache(name, builder.build());
+    }
+}
@@ -0,0 +1,26 @@
+package com.otaku.wallet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 코어 수 기반 커넥션 풀 크기 설정
+ * sizePerCore가 0이면 spring.datasource.hikari.maximum-pool-size를 그대로 사용
+ *
+ * @param sizePerCore 코어당 커넥션 수 (최대 풀 크기 = 코어 수 * sizePerCore + spare)
+ * @param spare       코어 수와 무관하게 더할 여유 커넥션 수
+ */
+@ConfigurationProperties(prefix = "otaku.datasource.pool")
+public record DataSourcePoolProperties(
+        @DefaultValue("0") int sizePerCore,
+        @DefaultValue("1") int spare
+) {
+
+    public boolean isCoreBased() {
+        return sizePerCore > 0;
+    }
+
+    public int maximumPoolSize(int cores) {
+        return cores * sizePerCore + spare;
+    }
+}
@@ -0,0 +1,75 @@
+package com.otaku.wallet.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 기동 완료 시 개발용 설정이 켜져 있으면 경고 (prod 프로필이면 기동 실패)
+ * SQL 출력, H2 콘솔, 고정 크기 커넥션 풀 등은 로컬 실행에는 편하지만 부하를 받으면 처리량을 떨어뜨림
+ * 운영에서는 prod 프로필(application-prod.properties)로 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DevSettingsStartupCheck {
+
+    private static final Set<String> SCHEMA_GENERATION = Set.of("create", "create-drop", "update");
+    private static final Set<String> SQL_LOG_LEVELS = Set.of("debug", "trace", "all");
+    private static final String PROD_PROFILE = "prod";
+
+    private final Environment environment;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        List<String> settings = activeDevSettings(environment);
+        if (!settings.isEmpty() && environment.matchesProfiles(PROD_PROFILE)) {
+            throw new IllegalStateException("Development settings must not be active with the prod profile: "
+                    + settings);
+        }
+        if (!settings.isEmpty()) {
+            log.warn("Development settings are active and will limit throughput under load: {}. "
+                    + "Run with --spring.profiles.active=prod for production.", settings);
+        }
+    }
+
+    // 켜져 있는 개발용 설정 목록 (속성=값)
+    static List<String> activeDevSettings(Environment environment) {
+        List<String> settings = new ArrayList<>();
+        addIf(settings, environment, "spring.jpa.show-sql", "true"::equalsIgnoreCase);
+        addIf(settings, environment, "spring.jpa.properties.hibernate.format_sql", "true"::equalsIgnoreCase);
+        addIf(settings, environment, "logging.level.org.hibernate.SQL",
+                value -> SQL_LOG_LEVELS.contains(value.toLowerCase()));
+        addIf(settings, environment, "spring.h2.console.enabled", "true"::equalsIgnoreCase);
+        addIf(settings, environment, "spring.jpa.hibernate.ddl-auto",
+                value -> SCHEMA_GENERATION.contains(value.toLowerCase()));
+        addIf(settings, environment, "spring.datasource.url", value -> value.startsWith("jdbc:h2:mem:"));
+
+        // 지정하지 않으면 기본값(true)으로 켜짐
+        String openInView = environment.getProperty("spring.jpa.open-in-view", "true");
+        if ("true".equalsIgnoreCase(openInView)) {
+            settings.add("spring.jpa.open-in-view=" + openInView);
+        }
+        // 0이면 코어 수와 무관한 Hikari 기본 풀 크기(10)
+        if (environment.getProperty("otaku.datasource.pool.size-per-core", Integer.class, 0) <= 0) {
+            settings.add("otaku.datasource.pool.size-per-core=0");
+        }
+        return settings;
+    }
+
+    private static void addIf(List<String> settings, Environment environment, String name,
+                              Predicate<String> isDevValue) {
+        String value = environment.getProperty(name);
+        if (value != null && isDevValue.test(value.trim())) {
+            settings.add(name + "=" + value.trim());
+        }
+    }
+}
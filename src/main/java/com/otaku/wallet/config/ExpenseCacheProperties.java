@@ -0,0 +1,37 @@
+package com.otaku.wallet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 지출 조회 캐시 설정 (캐시별 최대 크기 또는 최대 행 수, 만료 시간)
+ *
+ * @param expense     지출 단건 캐시
+ * @param expenseList 사용자별 지출 목록 캐시
+ * @param statistics  사용자별 통계 캐시
+ */
+@ConfigurationProperties(prefix = "otaku.cache")
+public record ExpenseCacheProperties(
+        @DefaultValue Spec expense,
+        @DefaultValue Spec expenseList,
+        @DefaultValue Spec statistics
+) {
+
+    /**
+     * @param maximumSize      최대 항목 수 (초과 시 오래 안 쓴 항목부터 제거)
+     * @param maximumWeight    최대 행 수 합계 (0보다 크면 maximumSize 대신 사용, 목록 항목은 행 수 + 1로 계산)
+     * @param expireAfterWrite 저장 후 만료 시간
+     */
+    public record Spec(
+            @DefaultValue("10000") long maximumSize,
+            @DefaultValue("0") long maximumWeight,
+            @DefaultValue("10m") Duration expireAfterWrite
+    ) {
+
+        public boolean isWeighted() {
+            return maximumWeight > 0;
+        }
+    }
+}
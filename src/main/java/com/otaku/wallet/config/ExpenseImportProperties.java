@@ -0,0 +1,17 @@
+package com.otaku.wallet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 지출 일괄 등록 설정
+ *
+ * @param batchSize 한 번에 flush 하는 행 수 (hibernate.jdbc.batch_size의 배수 권장)
+ * @param maxRows   한 요청에서 허용하는 최대 행 수
+ */
+@ConfigurationProperties(prefix = "otaku.expense.import")
+public record ExpenseImportProperties(
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("50000") int maxRows
+) {
+}
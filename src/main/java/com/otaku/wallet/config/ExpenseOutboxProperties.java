@@ -0,0 +1,26 @@
+package com.otaku.wallet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 지출 변경 이벤트 (outbox) 처리 설정
+ *
+ * @param rollupMode    통계 롤업 반영 시점
+ * @param workers       이벤트 처리 스레드 수
+ * @param queueCapacity 처리 대기열 크기 (가득 차면 다음 주기 조회에서 처리)
+ * @param batchSize     한 트랜잭션에서 처리하는 사용자별 최대 이벤트 수
+ */
+@ConfigurationProperties(prefix = "otaku.outbox")
+public record ExpenseOutboxProperties(
+        @DefaultValue("async") RollupMode rollupMode,
+        @DefaultValue("2") int workers,
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("500") int batchSize
+) {
+
+    public enum RollupMode {
+        SYNC,   // 지출을 바꾼 트랜잭션에서 바로 반영 (통계가 항상 최신)
+        ASYNC   // 이벤트 처리 시 사용자별로 모아 반영 (요청은 outbox만 저장, 통계와 목록/통계 ETag는 잠시 늦을 수 있음)
+    }
+}
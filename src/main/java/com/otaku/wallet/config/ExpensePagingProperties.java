@@ -0,0 +1,34 @@
+package com.otaku.wallet.config;
+
+import com.otaku.wallet.exception.InvalidExpenseDataException;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 지출 목록 커서 페이지 설정
+ *
+ * @param defaultSize 요청에 size가 없을 때 사용할 페이지 크기
+ * @param maxSize     한 페이지에 허용하는 최대 크기
+ */
+@ConfigurationProperties(prefix = "otaku.expense.page")
+public record ExpensePagingProperties(
+        @DefaultValue("20") int defaultSize,
+        @DefaultValue("100") int maxSize
+) {
+
+    /**
+     * 요청된 페이지 크기를 허용 범위 안으로 맞춤
+     *
+     * @param requested 요청된 크기 (null이면 기본값)
+     * @return 실제 사용할 페이지 크기
+     */
+    public int resolveSize(Integer requested) {
+        if (requested == null) {
+            return defaultSize;
+        }
+        if (requested < 1) {
+            throw new InvalidExpenseDataException("페이지 크기는 1 이상이어야 합니다: " + requested);
+        }
+        return Math.min(requested, maxSize);
+    }
+}
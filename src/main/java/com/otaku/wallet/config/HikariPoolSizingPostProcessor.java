@@ -0,0 +1,43 @@
+package com.otaku.wallet.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * otaku.datasource.pool.size-per-core가 설정되면 Hikari 최대 풀 크기를 코어 수 기준으로 맞춤
+ * 가상 스레드 모드에서는 요청 수가 아니라 커넥션 풀이 DB 동시성의 상한이 되므로 코어 수에 비례하게 작게 유지
+ */
+@Slf4j
+@Component
+public class HikariPoolSizingPostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+    private DataSourcePoolProperties properties = new DataSourcePoolProperties(0, 1);
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        // BeanPostProcessor는 일찍 만들어지므로 설정 빈 대신 Binder로 직접 읽음
+        this.properties = Binder.get(environment)
+                .bind("otaku.datasource.pool", DataSourcePoolProperties.class)
+                .orElse(properties);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && properties.isCoreBased()) {
+            int cores = Runtime.getRuntime().availableProcessors();
+            int poolSize = properties.maximumPoolSize(cores);
+            dataSource.setMaximumPoolSize(poolSize);
+            if (dataSource.getMinimumIdle() > poolSize) {
+                dataSource.setMinimumIdle(poolSize);
+            }
+            log.info("Hikari pool '{}' sized by core count: cores={}, maximumPoolSize={}",
+                    beanName, cores, poolSize);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,114 @@
+package com.otaku.wallet.config;
+
+import org.springframework.cache.Cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 조회 중에 제거된 키에는 조회 결과를 저장하지 않는 캐시
+ * 읽기 트랜잭션이 이전 값을 읽는 사이 쓰기 트랜잭션이 커밋/제거하면, 커밋 후로 미뤄진 저장이
+ * 제거보다 늦게 실행되어 이전 값이 만료 시간 동안 남을 수 있음 (TransactionAwareCacheDecorator 안쪽에 둠)
+ * 키 해시로 나눈 구간별 제거 횟수를 미적중 시점에 기억해 두고, 저장 시점에 달라졌으면 저장하지 않음
+ * (같은 구간의 다른 키가 제거되어도 저장을 건너뛰므로 캐시 적중률만 조금 낮아짐)
+ */
+class InvalidationGuardedCache implements Cache {
+
+    private static final int STRIPES = 1024;
+    // 스레드별로 기억하는 미적중 키 수 상한 (예외로 저장이 안 된 키가 쌓이지 않게 함)
+    private static final int MAX_PENDING_READS = 64;
+
+    private final Cache delegate;
+    private final AtomicLongArray invalidations = new AtomicLongArray(STRIPES);
+    private final ThreadLocal<Map<Object, Long>> pendingReads = ThreadLocal.withInitial(HashMap::new);
+
+    InvalidationGuardedCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        if (value == null) {
+            rememberMiss(key);
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        if (value == null) {
+            rememberMiss(key);
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        // 미적중 기록이 없으면(상한으로 비워짐 등) 안전하게 저장하지 않음
+        Long stamp = pendingReads.get().remove(key);
+        if (stamp != null && stamp == invalidations.get(stripe(key))) {
+            delegate.put(key, value);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        invalidations.incrementAndGet(stripe(key));
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        invalidations.incrementAndGet(stripe(key));
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        invalidateAllStripes();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        invalidateAllStripes();
+        return delegate.invalidate();
+    }
+
+    private void rememberMiss(Object key) {
+        Map<Object, Long> reads = pendingReads.get();
+        if (reads.size() >= MAX_PENDING_READS) {
+            reads.clear();
+        }
+        reads.put(key, invalidations.get(stripe(key)));
+    }
+
+    private void invalidateAllStripes() {
+        for (int i = 0; i < STRIPES; i++) {
+            invalidations.incrementAndGet(i);
+        }
+    }
+
+    private static int stripe(Object key) {
+        return Math.floorMod(key.hashCode(), STRIPES);
+    }
+}
@@ -0,0 +1,23 @@
+package com.otaku.wallet.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+/**
+ * 조회 캐시 지표 등록 (cache.gets, cache.evictions 등)
+ * Boot는 TransactionAwareCacheDecorator까지만 벗겨내 CaffeineCache를 찾으므로,
+ * InvalidationGuardedCache로 감싼 캐시는 안쪽 Caffeine 캐시로 직접 등록
+ */
+class InvalidationGuardedCacheMeterBinderProvider implements CacheMeterBinderProvider<InvalidationGuardedCache> {
+
+    @Override
+    public MeterBinder getMeterBinder(InvalidationGuardedCache cache, Iterable<Tag> tags) {
+        if (cache.getNativeCache() instanceof Cache<?, ?> nativeCache) {
+            return new CaffeineCacheMetrics<>(nativeCache, cache.getName(), tags);
+        }
+        return null;
+    }
+}
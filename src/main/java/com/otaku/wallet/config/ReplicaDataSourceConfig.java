@@ -0,0 +1,82 @@
+package com.otaku.wallet.config;
+
+import com.otaku.wallet.datasource.ReadYourWritesTracker;
+import com.otaku.wallet.datasource.ReplicaLagMonitor;
+import com.otaku.wallet.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (otaku.datasource.replica.enabled=true 일 때만)
+ * readOnly 트랜잭션은 첫 쿼리 시점에 복제본 커넥션을, 나머지는 primary 커넥션을 가져옴
+ * 트랜잭션 시작 시점에는 readOnly 여부만 기록되도록 LazyConnectionDataSourceProxy로 감쌈
+ */
+@Configuration
+@ConditionalOnProperty(name = "otaku.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    // spring.datasource.* 로 만드는 쓰기용 풀 (Boot 기본 DataSource 대신 직접 등록)
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaDataSourceProperties properties,
+                                                             ReadYourWritesTracker writesTracker) {
+        List<ReplicaDataSourceProperties.Pool> pools = properties.pools();
+        if (pools.isEmpty()) {
+            throw new IllegalStateException("otaku.datasource.replica.pools 가 비어 있습니다");
+        }
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < pools.size(); i++) {
+            ReplicaDataSourceProperties.Pool pool = pools.get(i);
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(pool.url())
+                    .username(pool.username())
+                    .password(pool.password())
+                    .build();
+            replica.setPoolName("replica-" + i);
+            replica.setMaximumPoolSize(pool.maximumPoolSize());
+            replica.setReadOnly(true);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, writesTracker);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               ReplicaDataSourceProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, properties, meterRegistry);
+    }
+
+    // JPA/JdbcTemplate이 쓰는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,48 @@
+package com.otaku.wallet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(replica) 설정
+ * enabled가 true이면 readOnly 트랜잭션은 복제본, 나머지는 spring.datasource(primary)로 보냄
+ *
+ * @param enabled    복제본 라우팅 사용 여부
+ * @param pools      복제본 커넥션 풀 목록 (정상인 복제본끼리 돌아가며 사용)
+ * @param stickiness 사용자가 지출을 변경한 뒤 이 시간 동안은 그 사용자의 읽기도 primary로 보냄 (자기 변경 즉시 조회)
+ * @param maxLag     복제 지연이 이 값을 넘은 복제본은 다시 따라잡을 때까지 제외
+ * @param lagQuery   복제본에서 실행할 복제 지연(밀리초) 조회 쿼리
+ */
+@ConfigurationProperties(prefix = "otaku.datasource.replica")
+public record ReplicaDataSourceProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<Pool> pools,
+        @DefaultValue("5s") Duration stickiness,
+        @DefaultValue("2s") Duration maxLag,
+        @DefaultValue(POSTGRESQL_LAG_QUERY) String lagQuery
+) {
+
+    // 받은 WAL을 모두 적용했으면 0, 아니면 마지막 적용 트랜잭션 이후 지난 시간
+    public static final String POSTGRESQL_LAG_QUERY = "SELECT CASE "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END";
+
+    /**
+     * 복제본 커넥션 풀 하나
+     *
+     * @param url             JDBC URL
+     * @param username        사용자
+     * @param password        비밀번호
+     * @param maximumPoolSize 최대 커넥션 수
+     */
+    public record Pool(
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize
+    ) {
+    }
+}
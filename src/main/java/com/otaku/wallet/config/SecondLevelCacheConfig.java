@@ -0,0 +1,54 @@
+package com.otaku.wallet.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine)
+ * 지출 엔티티를 id로 캐시해 단건 조회, 수정/삭제 전 조회가 SELECT 없이 끝나게 함
+ * 영역 크기/만료는 otaku.second-level-cache.* 로 설정하고, 설정에 없는 영역은 시작 시 실패
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String EXPENSE_REGION = "expense-entity";
+
+    // 컨텍스트마다 별도 CacheManager (같은 JVM의 여러 컨텍스트가 영역을 공유하지 않도록 URI를 따로 씀)
+    @Bean
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("otaku-wallet:second-level-cache:" + UUID.randomUUID()),
+                        SecondLevelCacheConfig.class.getClassLoader());
+        cacheManager.createCache(EXPENSE_REGION, region(properties.expense()));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    // 엔티티 캐시 항목은 Hibernate가 불변 구조로 저장하므로 값 복사 없이 참조 저장
+    private static CaffeineConfiguration<Object, Object> region(ExpenseCacheProperties.Spec spec) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(spec.maximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(spec.expireAfterWrite().toNanos()));
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        configuration.setNativeStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,15 @@
+package com.otaku.wallet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Hibernate 2차 캐시 영역 설정 (영역별 최대 크기, 만료 시간)
+ *
+ * @param expense 지출 엔티티 영역 (id → 엔티티)
+ */
+@ConfigurationProperties(prefix = "otaku.second-level-cache")
+public record SecondLevelCacheProperties(
+        @DefaultValue ExpenseCacheProperties.Spec expense
+) {
+}
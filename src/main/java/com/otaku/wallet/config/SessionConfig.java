@@ -0,0 +1,46 @@
+package com.otaku.wallet.config;
+
+import com.otaku.wallet.repository.UserSessionRepository;
+import com.otaku.wallet.session.JdbcUserIdStore;
+import com.otaku.wallet.session.RedisUserIdStore;
+import com.otaku.wallet.session.ServletSessionUserIdStore;
+import com.otaku.wallet.session.SignedCookieUserIdStore;
+import com.otaku.wallet.session.UserIdStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * otaku.session.mode 에 맞는 사용자 ID 저장소 등록
+ * servlet 외의 모드는 노드 간에 사용자를 공유하므로 sticky session 없이 여러 대로 띄울 수 있음
+ */
+@Configuration
+public class SessionConfig {
+
+    private static final String MODE = "otaku.session.mode";
+
+    @Bean
+    @ConditionalOnProperty(name = MODE, havingValue = "servlet", matchIfMissing = true)
+    public UserIdStore servletSessionUserIdStore() {
+        return new ServletSessionUserIdStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODE, havingValue = "jdbc")
+    public UserIdStore jdbcUserIdStore(SessionStoreProperties properties, UserSessionRepository sessionRepository) {
+        return new JdbcUserIdStore(properties, sessionRepository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODE, havingValue = "redis")
+    public UserIdStore redisUserIdStore(SessionStoreProperties properties, StringRedisTemplate redisTemplate) {
+        return new RedisUserIdStore(properties, redisTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODE, havingValue = "cookie")
+    public UserIdStore signedCookieUserIdStore(SessionStoreProperties properties) {
+        return new SignedCookieUserIdStore(properties);
+    }
+}
@@ -0,0 +1,29 @@
+package com.otaku.wallet.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 사용자 ID 세션 저장소 설정
+ *
+ * @param mode         저장소 (servlet: 컨테이너 HttpSession, jdbc: DB 테이블, redis: Redis, cookie: 서명 쿠키)
+ * @param cookieName   jdbc/redis/cookie 모드에서 쓰는 쿠키 이름
+ * @param timeout      마지막 요청 이후 유지 시간 (cookie 모드는 쿠키 만료 시간)
+ * @param secureCookie HTTPS에서만 쿠키 전송
+ * @param signingKey   cookie 모드 HMAC 서명 키 (32바이트 이상)
+ */
+@ConfigurationProperties(prefix = "otaku.session")
+public record SessionStoreProperties(
+        @DefaultValue("servlet") Mode mode,
+        @DefaultValue("OTAKU_SESSION") String cookieName,
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("false") boolean secureCookie,
+        String signingKey
+) {
+
+    public enum Mode {
+        SERVLET, JDBC, REDIS, COOKIE
+    }
+}
@@ -0,0 +1,29 @@
+package com.otaku.wallet.config;
+
+import com.otaku.wallet.metrics.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 실행 모드 (spring.threads.virtual.enabled=true, Java 21)
+ * Tomcat 요청 처리, @Async/@Scheduled, 스트리밍 응답 실행기가 모두 가상 스레드로 바뀌고
+ * 서비스의 @Transactional 메서드도 요청을 받은 가상 스레드에서 그대로 실행됨
+ * 이 모드에서는 커넥션 풀이 DB 동시성의 상한이므로 otaku.datasource.pool.* 로 풀 크기를 관리
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "otaku.virtual-threads.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${otaku.virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+    }
+}
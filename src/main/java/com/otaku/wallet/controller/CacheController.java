@@ -0,0 +1,28 @@
+package com.otaku.wallet.controller;
+
+import com.otaku.wallet.dto.CacheStatsDto;
+import com.otaku.wallet.service.CacheStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/caches")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final CacheStatsService cacheStatsService;
+
+    @GetMapping("/statistics")
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getCacheStats());
+    }
+
+    /*
+     *  GET /api/caches/statistics - 캐시별 적중/미적중/제거 횟수
+     * */
+}
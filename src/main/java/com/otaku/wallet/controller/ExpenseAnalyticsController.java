@@ -0,0 +1,55 @@
+package com.otaku.wallet.controller;
+
+import com.otaku.wallet.dto.SpendingAnalyticsDto;
+import com.otaku.wallet.service.ExpenseAnalyticsService;
+import com.otaku.wallet.service.SessionService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/expenses/analytics")
+@RequiredArgsConstructor
+public class ExpenseAnalyticsController {
+
+    private final ExpenseAnalyticsService analyticsService;
+    private final SessionService sessionService;
+
+    @GetMapping
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "analytics"}, histogram = true)
+    public ResponseEntity<SpendingAnalyticsDto.Overview> getOverview(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) {
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
+        return ResponseEntity.ok(analyticsService.getOverview(userId, from, to));
+    }
+
+    @GetMapping("/weekly")
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "analytics-weekly"}, histogram = true)
+    public ResponseEntity<SpendingAnalyticsDto.Weekly> getWeekly(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) {
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
+        return ResponseEntity.ok(analyticsService.getWeekly(userId, from, to));
+    }
+
+    /*
+     *  GET /api/expenses/analytics?from=yyyy-MM&to=yyyy-MM - 월별 / 카테고리별 / 별점별 지출 (기본 최근 12개월)
+     *  GET /api/expenses/analytics/weekly?from=yyyy-MM-dd&to=yyyy-MM-dd - 주별 지출 (기본 최근 12주)
+     * */
+}
@@ -1,17 +1,45 @@
 package com.otaku.wallet.controller;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.otaku.wallet.dto.ExpenseDto;
+import com.otaku.wallet.dto.ExpensePageDto;
+import com.otaku.wallet.dto.ExpenseSearchCondition;
+import com.otaku.wallet.dto.ImportResultDto;
+import com.otaku.wallet.dto.RevisionedDto;
 import com.otaku.wallet.dto.StatisticsDto;
+import com.otaku.wallet.exception.ExpenseConflictException;
+import com.otaku.wallet.metrics.ExpenseMetrics;
+import com.otaku.wallet.service.ExpenseImportService;
 import com.otaku.wallet.service.ExpenseService;
 import com.otaku.wallet.service.SessionService;
-import jakarta.servlet.http.HttpSession;
+import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.UUID;
 
 @RestController //JSON 반환 controller
 @RequestMapping("/api/expenses") //기본 경로 설정
@@ -19,61 +47,260 @@ import java.util.List;
 public class ExpenseController {
 
     private final ExpenseService expenseService;
+    private final ExpenseImportService expenseImportService;
     private final SessionService sessionService;
+    private final ObjectMapper objectMapper;
+    private final ExpenseMetrics expenseMetrics;
 
     @PostMapping
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "create"}, histogram = true)
     public ResponseEntity<ExpenseDto.Response> createExpense(
             @Valid @RequestBody ExpenseDto.Request request,
-            HttpSession session) {
-        String userId = sessionService.getUserId(session);
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) {
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
         return ResponseEntity.ok(expenseService.createExpense(userId, request));
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "import"}, histogram = true)
+    public ResponseEntity<ImportResultDto> importExpensesJson(
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) throws IOException {
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
+        return ResponseEntity.ok(expenseImportService.importJson(userId, servletRequest.getInputStream()));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "import"}, histogram = true)
+    public ResponseEntity<ImportResultDto> importExpensesCsv(
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) throws IOException {
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
+        Charset charset = servletRequest.getCharacterEncoding() != null
+                ? Charset.forName(servletRequest.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+        try (Reader reader = new InputStreamReader(servletRequest.getInputStream(), charset)) {
+            return ResponseEntity.ok(expenseImportService.importCsv(userId, reader));
+        }
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "import"}, histogram = true)
+    public ResponseEntity<ImportResultDto> importExpensesFile(
+            @RequestPart("file") MultipartFile file,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) throws IOException {
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
+        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename() : "";
+
+        // .json 파일이면 JSON 배열, 그 외에는 UTF-8 CSV로 처리
+        if (filename.endsWith(".json") || MediaType.APPLICATION_JSON_VALUE.equals(file.getContentType())) {
+            return ResponseEntity.ok(expenseImportService.importJson(userId, file.getInputStream()));
+        }
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            return ResponseEntity.ok(expenseImportService.importCsv(userId, reader));
+        }
+    }
+
     @GetMapping
-    public ResponseEntity<List<ExpenseDto.Response>> getAllExpenses(HttpSession session) {
-        String userId = sessionService.getUserId(session);
-        return ResponseEntity.ok(expenseService.getAllExpenses(userId));
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "list"}, histogram = true)
+    public ResponseEntity<List<ExpenseDto.Response>> getAllExpenses(
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) {
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
+        RevisionedDto<List<ExpenseDto.Response>> expenses = expenseService.getAllExpenses(userId);
+        if (notModified(expenses.getRevision(), servletRequest, servletResponse)) {
+            return null;
+        }
+        expenseMetrics.recordListRows("list", expenses.getBody().size());
+        return ResponseEntity.ok(expenses.getBody());
+    }
+
+    @GetMapping("/page")
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "page"}, histogram = true)
+    public ResponseEntity<ExpensePageDto> getExpensePage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) {
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
+        // 페이지는 캐시하지 않으므로 현재 버전을 본문보다 먼저 읽어 비교 (304면 지출 행 조회 없음)
+        if (notModified(expenseService.getRevision(userId), servletRequest, servletResponse)) {
+            return null;
+        }
+        ExpensePageDto page = expenseService.getExpensePage(userId, cursor, size);
+        expenseMetrics.recordListRows("page", page.getContent().size());
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/search")
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "search"}, histogram = true)
+    public ResponseEntity<PagedModel<ExpenseDto.Response>> searchExpenses(
+            @ModelAttribute ExpenseSearchCondition condition,
+            @PageableDefault(size = 20) Pageable pageable,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) {
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
+        PagedModel<ExpenseDto.Response> page = expenseService.searchExpenses(userId, condition, pageable);
+        expenseMetrics.recordListRows("search", page.getContent().size());
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "stream"}, histogram = true)
+    public ResponseEntity<StreamingResponseBody> streamExpenses(
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) {
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
+
+        // 한 줄에 지출 하나씩(NDJSON) 바로 써서 전체 목록을 메모리에 올리지 않음
+        StreamingResponseBody body = outputStream -> {
+            // 타입을 지정해 직렬화기(ExpenseResponseSerializer)를 한 번만 찾음
+            try (SequenceWriter writer = objectMapper.writerFor(ExpenseDto.Response.class)
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream)) {
+                expenseService.streamAllExpenses(userId, expense -> {
+                    try {
+                        writer.write(expense);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/{id}")
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "get"}, histogram = true)
     public ResponseEntity<ExpenseDto.Response> getExpense(
             @PathVariable Long id,
-            HttpSession session){
-        String userId = sessionService.getUserId(session);
-        return ResponseEntity.ok(expenseService.getExpense(userId, id));
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse){
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
+        return withETag(expenseService.getExpense(userId, id));
     }
 
     @PutMapping("/{id}")
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "update"}, histogram = true)
     public ResponseEntity<ExpenseDto.Response> updateExpense(
             @PathVariable Long id,
             @Valid @RequestBody ExpenseDto.Request request,
-            HttpSession session) {
-        String userId = sessionService.getUserId(session);
-        return ResponseEntity.ok(expenseService.updateExpense(userId, id, request));
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) {
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
+        return withETag(expenseService.updateExpense(userId, id, request, expectedVersion(id, ifMatch)));
+    }
+
+    // 보낸 항목만 수정하고 null은 그대로 둠 (null로 지우는 JSON Merge Patch가 아니므로 application/json만 받음)
+    @PatchMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "patch"}, histogram = true)
+    public ResponseEntity<ExpenseDto.Response> patchExpense(
+            @PathVariable Long id,
+            @Valid @RequestBody ExpenseDto.Patch patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) {
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
+        return withETag(expenseService.patchExpense(userId, id, patch, expectedVersion(id, ifMatch)));
     }
 
     @DeleteMapping("/{id}")
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "delete"}, histogram = true)
     public ResponseEntity<Void> deleteExpense(
             @PathVariable Long id,
-            HttpSession session){
-        String userId = sessionService.getUserId(session);
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse){
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
         expenseService.deleteExpense(userId, id);
         return ResponseEntity.ok().build();
     }
 
+    // 여러 건 삭제 (DELETE /api/expenses?ids=1,2,3) - 하나라도 없으면 404, 아무것도 삭제하지 않음
+    @DeleteMapping(params = "ids")
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "bulk-delete"}, histogram = true)
+    public ResponseEntity<Void> deleteExpenses(
+            @RequestParam List<Long> ids,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) {
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
+        expenseService.deleteExpenses(userId, ids);
+        return ResponseEntity.ok().build();
+    }
+
     @GetMapping("/statistics")
-    public ResponseEntity<StatisticsDto> getStatistics(HttpSession session) {
-        String userId = sessionService.getUserId(session);
-        return ResponseEntity.ok(expenseService.getStatistics(userId));
+    @Timed(value = "otaku.expense.api", extraTags = {"operation", "statistics"}, histogram = true)
+    public ResponseEntity<StatisticsDto> getStatistics(
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) {
+        UUID userId = sessionService.getUserId(servletRequest, servletResponse);
+        RevisionedDto<StatisticsDto> statistics = expenseService.getStatistics(userId);
+        if (notModified(statistics.getRevision(), servletRequest, servletResponse)) {
+            return null;
+        }
+        return ResponseEntity.ok(statistics.getBody());
+    }
+
+
+    /**
+     * 본문과 같은 시점의 데이터 버전을 ETag로 비교해 바뀌지 않았으면 304 (본문 없음)
+     * 목록/통계는 캐시에 본문과 함께 저장된 버전을 쓰므로, 노드마다 캐시 시점이 달라도 ETag와 본문이 어긋나지 않음
+     * 버전은 본문보다 먼저 읽으므로 그 사이 수정되어도 다음 요청에서 다시 200을 받음
+     * no-cache로 브라우저가 매번 If-None-Match로 재검증하게 함
+     */
+    private static boolean notModified(long revision, HttpServletRequest servletRequest, HttpServletResponse servletResponse) {
+        servletResponse.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        return new ServletWebRequest(servletRequest, servletResponse).checkNotModified(String.valueOf(revision));
+    }
+
+    // 지출 버전을 ETag로 내려줌 (수정 요청 시 If-Match로 다시 받음)
+    private static ResponseEntity<ExpenseDto.Response> withETag(ExpenseDto.Response expense) {
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(expense.getVersion()))
+                .body(expense);
+    }
+
+    /**
+     * If-Match 헤더의 버전 (없거나 * 이면 null - 확인하지 않음)
+     * 태그를 여러 개 보냈거나 버전 형식이 아니면 412
+     */
+    private static Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        List<ETag> tags = ETag.parse(ifMatch);
+        if (tags.size() == 1 && tags.get(0).isWildcard()) {
+            return null;
+        }
+        if (tags.size() != 1) {
+            throw new ExpenseConflictException(id);
+        }
+        try {
+            return Long.valueOf(tags.get(0).tag());
+        } catch (NumberFormatException e) {
+            throw new ExpenseConflictException(id);
+        }
     }
 
 
     /*
     *  POST /api/expenses - 지출 등록
-    *  GET /api/expenses - 지출 목록 조회
+    *  POST /api/expenses/import - 지출 일괄 등록 (JSON 배열, text/csv, 파일 업로드)
+    *  GET /api/expenses - 지출 목록 조회 (If-None-Match가 현재 버전이면 304)
+    *  GET /api/expenses/page?cursor=&size= - 커서 기반 지출 목록 조회
+    *  GET /api/expenses/search?category=&minRating=&maxRating=&from=&to=&minAmount=&maxAmount=&sort=&page=&size=
+    *      - 조건 검색 (정렬 가능: purchaseDate, amount, displayAmount, satisfactionRating, createdAt)
+    *  GET /api/expenses/stream - 지출 목록 스트리밍 (NDJSON)
     *  GET /api/expenses/{id} - 특정 지출 조회
-    *  PUT /api/expenses/{id} - 수정
+    *  PUT /api/expenses/{id} - 수정 (If-Match: "버전" 이면 버전이 다를 때 412)
+    *  PATCH /api/expenses/{id} - 보낸 항목만 수정 (If-Match 동일)
     *  DELETE /api/expenses/{id} - 식제
-    *  GET /api/expenses/statistics - 통계
+    *  DELETE /api/expenses?ids=1,2,3 - 여러 건 삭제 (하나라도 없으면 404, 전부 취소)
+    *  GET /api/expenses/statistics - 통계 (If-None-Match가 현재 버전이면 304)
     * */
 }
@@ -0,0 +1,129 @@
+package com.otaku.wallet.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.otaku.wallet.config.ReplicaDataSourceProperties;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 최근에 지출을 변경한 사용자 기록 (자기 변경 즉시 조회 보장)
+ * 변경 후 otaku.datasource.replica.stickiness 동안은 그 사용자의 읽기를 복제본 대신 primary로 보냄
+ * 지출 데이터는 본인만 읽으므로, 변경한 사용자만 고정하면 복제 지연이 화면/캐시에 드러나지 않음
+ * 메모리 기록은 노드마다 따로라서, 다음 요청이 다른 노드로 가도 고정되도록 커밋 시각을 쿠키로도 내려보냄
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    // 현재 요청의 사용자 ID (SessionService가 요청 속성에 둠)
+    public static final String USER_ID_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".userId";
+
+    // 마지막 변경 커밋 시각 (epoch millis)
+    public static final String LAST_WRITE_COOKIE = "OTAKU_LAST_WRITE";
+
+    private static final int MAX_TRACKED_USERS = 100_000;
+
+    // 복제본을 쓰지 않으면 null (기록할 필요 없음)
+    private final Cache<UUID, Boolean> recentWriters;
+    private final Duration stickiness;
+
+    public ReadYourWritesTracker(ReplicaDataSourceProperties properties) {
+        this.recentWriters = properties.enabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(MAX_TRACKED_USERS)
+                        .expireAfterWrite(properties.stickiness())
+                        .build()
+                : null;
+        this.stickiness = properties.stickiness();
+    }
+
+    /**
+     * 사용자의 변경을 기록
+     * 트랜잭션 안이면 커밋 시점에 한 번 더 기록해, 고정 시간을 커밋 시각부터 셈
+     */
+    public void recordWrite(UUID userId) {
+        if (recentWriters == null) {
+            return;
+        }
+        recentWriters.put(userId, Boolean.TRUE);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(userId, Boolean.TRUE);
+                    writeMarkerCookie();
+                }
+            });
+        } else {
+            writeMarkerCookie();
+        }
+    }
+
+    public boolean isRecentWriter(UUID userId) {
+        return recentWriters != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    // 요청 스레드가 아니면 (outbox 처리, 스케줄 작업) 사용자를 알 수 없으므로 고정하지 않음
+    public boolean isCurrentUserRecentWriter() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (recentWriters == null || attributes == null) {
+            return false;
+        }
+        if (attributes.getAttribute(USER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof UUID userId
+                && isRecentWriter(userId)) {
+            return true;
+        }
+        return attributes instanceof ServletRequestAttributes servletAttributes
+                && hasRecentMarker(servletAttributes.getRequest());
+    }
+
+    // 응답이 아직 나가지 않은 요청 스레드에서만 쿠키를 씀
+    private void writeMarkerCookie() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        ResponseCookie cookie = ResponseCookie.from(LAST_WRITE_COOKIE, Long.toString(System.currentTimeMillis()))
+                .path("/")
+                .httpOnly(true)
+                .secure(attributes.getRequest().isSecure())
+                .sameSite("Lax")
+                .maxAge(stickiness)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    // 노드 간 시계 차이를 고려해 앞뒤로 stickiness 안이면 최근 변경으로 봄
+    private boolean hasRecentMarker(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                try {
+                    long elapsed = System.currentTimeMillis() - Long.parseLong(cookie.getValue());
+                    return Math.abs(elapsed) < stickiness.toMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,75 @@
+package com.otaku.wallet.datasource;
+
+import com.otaku.wallet.config.ReplicaDataSourceProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 복제본마다 복제 지연을 주기적으로 조회해 허용치(otaku.datasource.replica.max-lag)를 넘으면 라우팅에서 제외
+ * 지연은 otaku.datasource.replica.lag 게이지(밀리초, 조회 실패 시 -1)로 보고
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final Map<String, AtomicLong> lags = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, ReplicaDataSourceProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.lagQuery = properties.lagQuery();
+        this.maxLagMillis = properties.maxLag().toMillis();
+
+        if (properties.stickiness().compareTo(properties.maxLag()) < 0) {
+            log.warn("Replica stickiness {} is shorter than max lag {}: users may not see their own writes",
+                    properties.stickiness(), properties.maxLag());
+        }
+        routingDataSource.getReplicas().keySet().forEach(key -> {
+            AtomicLong lag = new AtomicLong();
+            lags.put(key, lag);
+            Gauge.builder("otaku.datasource.replica.lag", lag, AtomicLong::get)
+                    .description("Replication lag of the read replica (-1 if the check failed)")
+                    .baseUnit("milliseconds")
+                    .tag("replica", key)
+                    .register(meterRegistry);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${otaku.datasource.replica.lag-check-interval:5s}")
+    public void check() {
+        routingDataSource.getReplicas().forEach((key, dataSource) -> {
+            long lag = measureLag(key, new JdbcTemplate(dataSource));
+            lags.get(key).set(lag);
+
+            boolean available = lag >= 0 && lag <= maxLagMillis;
+            if (routingDataSource.setAvailable(key, available)) {
+                if (available) {
+                    log.info("Replica '{}' caught up (lag={} ms), routing reads to it again", key, lag);
+                } else {
+                    log.warn("Replica '{}' removed from read routing (lag={} ms, max={} ms)", key, lag, maxLagMillis);
+                }
+            }
+        });
+    }
+
+    // 조회에 실패하면 -1
+    private long measureLag(String key, JdbcTemplate jdbcTemplate) {
+        try {
+            Double lag = jdbcTemplate.queryForObject(lagQuery, Double.class);
+            return lag != null ? Math.round(lag) : -1;
+        } catch (DataAccessException e) {
+            log.debug("Replica '{}' lag check failed: {}", key, e.getMessage());
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.otaku.wallet.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 커넥션을 복제본 중 하나로 보냄 (LazyConnectionDataSourceProxy의 readOnlyDataSource)
+ * - 정상인 복제본끼리 돌아가며 사용
+ * - 모든 복제본이 지연/장애 상태이거나, 현재 사용자가 방금 변경했으면 primary 사용
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private final Map<String, HikariDataSource> replicas;
+    private final List<String> replicaKeys;
+    private final ReadYourWritesTracker writesTracker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    // 복제 지연이 허용치를 넘었거나 지연 조회에 실패한 복제본 (ReplicaLagMonitor가 갱신)
+    private final Set<String> unavailable = ConcurrentHashMap.newKeySet();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, HikariDataSource> replicas,
+                                    ReadYourWritesTracker writesTracker) {
+        this.replicas = Collections.unmodifiableMap(new LinkedHashMap<>(replicas));
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.writesTracker = writesTracker;
+        setDefaultTargetDataSource(primary);
+        setTargetDataSources(new LinkedHashMap<>(replicas));
+        setLenientFallback(false);
+    }
+
+    // null이면 primary (AbstractRoutingDataSource 기본 대상)
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (writesTracker.isCurrentUserRecentWriter()) {
+            return null;
+        }
+        int size = replicaKeys.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (!unavailable.contains(key)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 복제본 사용 여부 변경
+     *
+     * @return 상태가 바뀌었으면 true
+     */
+    public boolean setAvailable(String key, boolean available) {
+        return available ? unavailable.remove(key) : unavailable.add(key);
+    }
+
+    public boolean isAvailable(String key) {
+        return !unavailable.contains(key);
+    }
+
+    public Map<String, HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void destroy() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
@@ -1,16 +1,34 @@
 package com.otaku.wallet.domain;
 
+import com.otaku.wallet.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.PartitionKey;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
-@Table(name = "expenses")
+@Table(name = "expenses", indexes = {
+        // 목록/커서 페이지/날짜 범위 조회 (userId + 최신순)
+        @Index(name = "idx_expenses_user_date_id", columnList = "user_id, purchase_date, id"),
+        // 카테고리 별 조회
+        @Index(name = "idx_expenses_user_category", columnList = "user_id, category"),
+        // 만족도 별 조회, 만족 지출 개수
+        @Index(name = "idx_expenses_user_rating", columnList = "user_id, satisfaction_rating")
+})
+// 바뀐 컬럼만 UPDATE 문에 포함 (PATCH로 일부 항목만 수정할 때 나머지 컬럼을 다시 쓰지 않음)
+@DynamicUpdate
+// id 조회는 2차 캐시에서 (수정/삭제는 커밋 시 캐시 항목을 잠그고 갱신)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.EXPENSE_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Expense {
@@ -18,21 +36,25 @@ public class Expense {
     // id, category, cost, date
 
     // 각 지출에 고유 번호 부여
+    // 시퀀스를 50개 단위로 미리 받아와(pooled) INSERT를 JDBC 배치로 묶을 수 있게 함
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_seq")
+    @SequenceGenerator(name = "expense_seq", sequenceName = "expenses_seq", allocationSize = 50)
     private Long id;
 
-    // 사용자 ID (세션 기반)
-    @Column(nullable = false)
-    private String userId;
+    // 사용자 ID (세션 기반, DB uuid 타입 16바이트)
+    // PostgreSQL에서는 user_id 해시 파티션 키 - 엔티티 UPDATE/DELETE 조건에도 넣어 파티션 하나만 읽게 함
+    @PartitionKey
+    @Column(nullable = false, updatable = false)
+    private UUID userId;
 
     // 실제 구매액
     @Column(nullable = false)
-    private Integer amount;
+    private Long amount;
 
     // 만족도 5 -> 구매액 0인 경우를 위한 변수
     @Column(nullable = false)
-    private Integer displayAmount;
+    private Long displayAmount;
 
     // 지출 카테고리
     @Enumerated(EnumType.STRING)
@@ -63,8 +85,14 @@ public class Expense {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    // 낙관적 잠금 버전 (수정할 때마다 1 증가, ETag로 노출)
+    // UPDATE ... WHERE id = ? AND version = ? 가 0건이면 다른 요청이 먼저 수정한 것
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Builder
-    private Expense(Long id, String userId, Integer amount, Integer displayAmount,
+    private Expense(Long id, UUID userId, Long amount, Long displayAmount,
                     ExpenseCategory category, Integer satisfactionRating,
                     Boolean isSatisfied, String description,
                     LocalDate purchaseDate, LocalDateTime createdAt,
@@ -80,7 +108,7 @@ public class Expense {
         this.updatedAt = updatedAt;
 
         if (satisfactionRating != null && satisfactionRating == 5) {
-            this.displayAmount = 0;
+            this.displayAmount = 0L;
             this.isSatisfied = true;
         } else {
             this.displayAmount = amount;
@@ -88,7 +116,7 @@ public class Expense {
         }
     }
 
-    public void update(Integer amount, ExpenseCategory category,
+    public void update(Long amount, ExpenseCategory category,
                        String description, Integer satisfactionRating,
                        LocalDate purchaseDate) {
         // null이 아닌 것만 수정 (선택적 수정)
@@ -104,10 +132,12 @@ public class Expense {
         if (purchaseDate != null) {
             this.purchaseDate = purchaseDate;
         }
-
-        // 별점은 마지막에 (displayAmount 재계산)
         if (satisfactionRating != null) {
             this.satisfactionRating = satisfactionRating;
+        }
+
+        // 금액이나 별점이 바뀌면 마지막에 displayAmount 재계산
+        if (amount != null || satisfactionRating != null) {
             calculateDisplayAmount();
         }
     }
@@ -116,7 +146,7 @@ public class Expense {
     // 5점이면 payAmount가 0이 되는 로직
     public void calculateDisplayAmount() {
         if (this.satisfactionRating == 5) {
-            this.displayAmount = 0;
+            this.displayAmount = 0L;
             this.isSatisfied = true;
         } else {
             this.displayAmount = this.amount;
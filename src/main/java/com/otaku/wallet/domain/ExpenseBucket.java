@@ -0,0 +1,22 @@
+package com.otaku.wallet.domain;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 월별 집계 구간 (구매 월, 카테고리, 별점)
+ *
+ * @param month              구매 월의 1일
+ * @param category           카테고리
+ * @param satisfactionRating 별점
+ */
+public record ExpenseBucket(LocalDate month, ExpenseCategory category, int satisfactionRating) {
+
+    public static ExpenseBucket of(LocalDate purchaseDate, ExpenseCategory category, int satisfactionRating) {
+        return new ExpenseBucket(purchaseDate.withDayOfMonth(1), category, satisfactionRating);
+    }
+
+    public static ExpenseBucket of(YearMonth month, ExpenseCategory category, int satisfactionRating) {
+        return new ExpenseBucket(month.atDay(1), category, satisfactionRating);
+    }
+}
@@ -0,0 +1,116 @@
+package com.otaku.wallet.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * 지출 변경으로 생긴 통계 변경분
+ * 사용자 전체 합계와 월별 집계 구간별 합계를 함께 모아 롤업에 한 번에 반영
+ */
+@Getter
+@NoArgsConstructor
+public class ExpenseDelta {
+
+    private long totalAmount;
+    private long displayAmount;
+    private long satisfiedCount;
+    private long totalCount;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<ExpenseBucket, BucketTotals> buckets = new LinkedHashMap<>();
+
+    /**
+     * 변경 전/후 스냅샷의 차이
+     *
+     * @param before 변경 전 스냅샷 (등록이면 null)
+     * @param after  변경 후 스냅샷 (삭제면 null)
+     */
+    public static ExpenseDelta between(ExpenseSnapshot before, ExpenseSnapshot after) {
+        ExpenseDelta delta = new ExpenseDelta();
+        if (before != null) {
+            delta.subtract(before);
+        }
+        if (after != null) {
+            delta.add(after);
+        }
+        return delta;
+    }
+
+    public ExpenseDelta add(ExpenseSnapshot snapshot) {
+        return accumulate(snapshot, 1);
+    }
+
+    public ExpenseDelta subtract(ExpenseSnapshot snapshot) {
+        return accumulate(snapshot, -1);
+    }
+
+    // 다른 변경분을 더함 (여러 이벤트의 변경분을 모아 한 번에 반영)
+    public ExpenseDelta plus(ExpenseDelta other) {
+        addTotals(other.totalAmount, other.displayAmount, other.satisfiedCount, other.totalCount);
+        other.buckets.forEach((bucket, totals) ->
+                addBucket(bucket, totals.totalAmount, totals.displayAmount, totals.expenseCount));
+        return this;
+    }
+
+    // 저장된 값으로 다시 만들 때 사용 (ExpenseDeltaConverter)
+    void addTotals(long totalAmount, long displayAmount, long satisfiedCount, long totalCount) {
+        this.totalAmount += totalAmount;
+        this.displayAmount += displayAmount;
+        this.satisfiedCount += satisfiedCount;
+        this.totalCount += totalCount;
+    }
+
+    void addBucket(ExpenseBucket bucket, long totalAmount, long displayAmount, long expenseCount) {
+        BucketTotals totals = buckets.computeIfAbsent(bucket, key -> new BucketTotals());
+        totals.totalAmount += totalAmount;
+        totals.displayAmount += displayAmount;
+        totals.expenseCount += expenseCount;
+    }
+
+    // 설명만 바뀐 수정처럼 통계에 영향이 없는 경우
+    public boolean isEmpty() {
+        return totalAmount == 0 && displayAmount == 0 && satisfiedCount == 0 && totalCount == 0
+                && buckets.values().stream().allMatch(BucketTotals::isZero);
+    }
+
+    // 값이 바뀐 구간만 순회
+    public void forEachBucket(BiConsumer<ExpenseBucket, BucketTotals> action) {
+        buckets.forEach((bucket, totals) -> {
+            if (!totals.isZero()) {
+                action.accept(bucket, totals);
+            }
+        });
+    }
+
+    private ExpenseDelta accumulate(ExpenseSnapshot snapshot, int sign) {
+        totalAmount += sign * snapshot.amount();
+        displayAmount += sign * snapshot.displayAmount();
+        satisfiedCount += snapshot.satisfied() ? sign : 0;
+        totalCount += sign;
+
+        BucketTotals totals = buckets.computeIfAbsent(snapshot.bucket(), bucket -> new BucketTotals());
+        totals.totalAmount += sign * snapshot.amount();
+        totals.displayAmount += sign * snapshot.displayAmount();
+        totals.expenseCount += sign;
+        return this;
+    }
+
+    /**
+     * 집계 구간 하나의 변경분
+     */
+    @Getter
+    public static class BucketTotals {
+        private long totalAmount;
+        private long displayAmount;
+        private long expenseCount;
+
+        boolean isZero() {
+            return totalAmount == 0 && displayAmount == 0 && expenseCount == 0;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.otaku.wallet.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 변경분을 JSON 문자열로 저장 (outbox 이벤트)
+ * 월별 집계 구간은 값이 0이 아닌 것만 저장
+ */
+@Converter
+public class ExpenseDeltaConverter implements AttributeConverter<ExpenseDelta, String> {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .build();
+
+    @Override
+    public String convertToDatabaseColumn(ExpenseDelta delta) {
+        List<StoredBucket> buckets = new ArrayList<>();
+        delta.forEachBucket((bucket, totals) -> buckets.add(new StoredBucket(
+                bucket.month(), bucket.category(), bucket.satisfactionRating(),
+                totals.getTotalAmount(), totals.getDisplayAmount(), totals.getExpenseCount())));
+        try {
+            return MAPPER.writeValueAsString(new StoredDelta(delta.getTotalAmount(), delta.getDisplayAmount(),
+                    delta.getSatisfiedCount(), delta.getTotalCount(), buckets));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("변경분을 저장하지 못했습니다", e);
+        }
+    }
+
+    @Override
+    public ExpenseDelta convertToEntityAttribute(String json) {
+        StoredDelta stored;
+        try {
+            stored = MAPPER.readValue(json, StoredDelta.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 변경분을 읽지 못했습니다", e);
+        }
+        ExpenseDelta delta = new ExpenseDelta();
+        delta.addTotals(stored.totalAmount(), stored.displayAmount(), stored.satisfiedCount(), stored.totalCount());
+        for (StoredBucket bucket : stored.buckets()) {
+            delta.addBucket(new ExpenseBucket(bucket.month(), bucket.category(), bucket.satisfactionRating()),
+                    bucket.totalAmount(), bucket.displayAmount(), bucket.expenseCount());
+        }
+        return delta;
+    }
+
+    record StoredDelta(long totalAmount, long displayAmount, long satisfiedCount, long totalCount,
+                       List<StoredBucket> buckets) {
+    }
+
+    record StoredBucket(LocalDate month, ExpenseCategory category, int satisfactionRating,
+                        long totalAmount, long displayAmount, long expenseCount) {
+    }
+}
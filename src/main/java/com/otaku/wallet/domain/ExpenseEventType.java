@@ -0,0 +1,11 @@
+package com.otaku.wallet.domain;
+
+/**
+ * 지출 변경 이벤트 종류
+ */
+public enum ExpenseEventType {
+    CREATED,    // 등록
+    UPDATED,    // 수정 (PUT/PATCH)
+    DELETED,    // 삭제 (여러 건 삭제 포함)
+    IMPORTED    // 일괄 등록
+}
@@ -0,0 +1,67 @@
+package com.otaku.wallet.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * 사용자별 월/카테고리/별점 지출 집계 (롤업)
+ * 지출 변경 트랜잭션 안에서 변경분만큼 갱신되어, 기간별 분석이 원본 지출 수와 무관하게
+ * 사용자당 (개월 수 x 카테고리 x 별점) 이하의 행만 읽음
+ */
+@Entity
+@Table(name = "expense_monthly_aggregates")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExpenseMonthlyAggregate implements Persistable<ExpenseMonthlyAggregateId> {
+
+    // (user_id, bucket_month, category, satisfaction_rating) - 기간 조회가 PK 앞부분을 그대로 사용
+    @EmbeddedId
+    private ExpenseMonthlyAggregateId id;
+
+    // 실제 총액
+    @Column(nullable = false)
+    private long totalAmount;
+
+    // 표시 총액
+    @Column(nullable = false)
+    private long displayAmount;
+
+    // 지출 개수
+    @Column(nullable = false)
+    private long expenseCount;
+
+    // 키를 직접 지정하므로 save() 시 merge(SELECT) 대신 persist 하도록 표시
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    private ExpenseMonthlyAggregate(ExpenseMonthlyAggregateId id, long totalAmount,
+                                    long displayAmount, long expenseCount) {
+        this.id = id;
+        this.totalAmount = totalAmount;
+        this.displayAmount = displayAmount;
+        this.expenseCount = expenseCount;
+    }
+
+    public static ExpenseMonthlyAggregate of(UUID userId, ExpenseBucket bucket, long totalAmount,
+                                             long displayAmount, long expenseCount) {
+        return new ExpenseMonthlyAggregate(new ExpenseMonthlyAggregateId(userId, bucket),
+                totalAmount, displayAmount, expenseCount);
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
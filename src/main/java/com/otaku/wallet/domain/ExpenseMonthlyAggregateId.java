@@ -0,0 +1,49 @@
+package com.otaku.wallet.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 월별 집계 키 (사용자, 구매 월, 카테고리, 별점)
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExpenseMonthlyAggregateId implements Serializable {
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    // 구매 월의 1일
+    @Column(name = "bucket_month", nullable = false)
+    private LocalDate bucketMonth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ExpenseCategory category;
+
+    @Column(nullable = false)
+    private int satisfactionRating;
+
+    public ExpenseMonthlyAggregateId(UUID userId, ExpenseBucket bucket) {
+        this.userId = userId;
+        this.bucketMonth = bucket.month();
+        this.category = bucket.category();
+        this.satisfactionRating = bucket.satisfactionRating();
+    }
+
+    public ExpenseBucket toBucket() {
+        return new ExpenseBucket(bucketMonth, category, satisfactionRating);
+    }
+}
@@ -0,0 +1,78 @@
+package com.otaku.wallet.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.java.Immutability;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 지출 변경 이벤트 (transactional outbox)
+ * 지출을 바꾼 트랜잭션 안에서 함께 저장되어 커밋되면 반드시 남고, 처리 후 삭제됨
+ */
+@Entity
+@Table(name = "expense_outbox", indexes = {
+        // 사용자별 대기 이벤트를 오래된 순으로 처리
+        @Index(name = "idx_expense_outbox_user_id", columnList = "user_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExpenseOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_outbox_seq")
+    @SequenceGenerator(name = "expense_outbox_seq", sequenceName = "expense_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ExpenseEventType type;
+
+    // 단건 변경이면 지출 ID, 여러 건(일괄 등록/삭제)이면 null
+    private Long expenseId;
+
+    // 변경된 지출 수
+    @Column(nullable = false)
+    private int expenseCount;
+
+    // 통계 변경분 (사용자 합계 + 월별 집계 구간)
+    // 저장 후에는 바뀌지 않음 - 변경 감지에서 빼야 flush마다 UPDATE가 나가지 않음 (ExpenseDelta는 equals가 없음)
+    @Convert(converter = ExpenseDeltaConverter.class)
+    @Mutability(Immutability.class)
+    @JdbcTypeCode(SqlTypes.LONG32VARCHAR)
+    @Column(nullable = false)
+    private ExpenseDelta delta;
+
+    // 롤업을 이벤트 처리 시 반영해야 하면 true (비동기 롤업 모드, 재계산하면 false로 정리)
+    @Column(nullable = false)
+    private boolean rollupPending;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private ExpenseOutboxEvent(UUID userId, ExpenseEventType type, Long expenseId, int expenseCount,
+                               ExpenseDelta delta, boolean rollupPending) {
+        this.userId = userId;
+        this.type = type;
+        this.expenseId = expenseId;
+        this.expenseCount = expenseCount;
+        this.delta = delta;
+        this.rollupPending = rollupPending;
+    }
+
+    public static ExpenseOutboxEvent of(UUID userId, ExpenseEventType type, Long expenseId, int expenseCount,
+                                        ExpenseDelta delta, boolean rollupPending) {
+        return new ExpenseOutboxEvent(userId, type, expenseId, expenseCount, delta, rollupPending);
+    }
+}
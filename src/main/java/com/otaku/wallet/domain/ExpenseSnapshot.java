@@ -0,0 +1,27 @@
+package com.otaku.wallet.domain;
+
+import java.time.LocalDate;
+
+/**
+ * 통계 집계에 필요한 지출 값만 담은 스냅샷
+ * 수정 전/후 스냅샷의 차이로 사용자 통계와 월별 집계를 갱신
+ */
+public record ExpenseSnapshot(long amount, long displayAmount, boolean satisfied,
+                              ExpenseCategory category, int satisfactionRating, LocalDate purchaseDate) {
+
+    public static ExpenseSnapshot of(Expense expense) {
+        return new ExpenseSnapshot(
+                expense.getAmount(),
+                expense.getDisplayAmount(),
+                expense.getIsSatisfied(),
+                expense.getCategory(),
+                expense.getSatisfactionRating(),
+                expense.getPurchaseDate()
+        );
+    }
+
+    // 이 지출이 속한 월별 집계 구간
+    public ExpenseBucket bucket() {
+        return ExpenseBucket.of(purchaseDate, category, satisfactionRating);
+    }
+}
@@ -0,0 +1,88 @@
+package com.otaku.wallet.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * 사용자별 지출 통계 (롤업)
+ * 지출 등록/수정/삭제 트랜잭션 안에서 변경분만큼 갱신되어 통계 조회가 행 수와 무관하게 O(1)
+ */
+@Entity
+@Table(name = "user_expense_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserExpenseSummary implements Persistable<UUID> {
+
+    // 사용자 ID (세션 기반)
+    @Id
+    private UUID userId;
+
+    // 실제 총액
+    @Column(nullable = false)
+    private long totalAmount;
+
+    // 표시 총액
+    @Column(nullable = false)
+    private long displayAmount;
+
+    // 만족 지출 개수 (5점)
+    @Column(nullable = false)
+    private long satisfiedCount;
+
+    // 전체 지출 개수
+    @Column(nullable = false)
+    private long totalCount;
+
+    // 사용자 지출 데이터 버전 (등록/수정/삭제마다 1 증가, 목록/통계 ETag로 사용)
+    @Column(nullable = false)
+    private long revision;
+
+    // userId를 직접 지정하므로 save() 시 merge(SELECT) 대신 persist 하도록 표시
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    private UserExpenseSummary(UUID userId, long totalAmount, long displayAmount,
+                               long satisfiedCount, long totalCount) {
+        this.userId = userId;
+        this.totalAmount = totalAmount;
+        this.displayAmount = displayAmount;
+        this.satisfiedCount = satisfiedCount;
+        this.totalCount = totalCount;
+    }
+
+    public static UserExpenseSummary of(UUID userId, long totalAmount, long displayAmount,
+                                        long satisfiedCount, long totalCount) {
+        return new UserExpenseSummary(userId, totalAmount, displayAmount, satisfiedCount, totalCount);
+    }
+
+    // 원본 데이터로 다시 계산한 값으로 덮어쓰기
+    public void overwrite(long totalAmount, long displayAmount, long satisfiedCount, long totalCount) {
+        this.totalAmount = totalAmount;
+        this.displayAmount = displayAmount;
+        this.satisfiedCount = satisfiedCount;
+        this.totalCount = totalCount;
+        this.revision++;
+    }
+
+    @Override
+    public UUID getId() {
+        return userId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
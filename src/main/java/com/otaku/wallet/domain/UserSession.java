@@ -0,0 +1,58 @@
+package com.otaku.wallet.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 세션 토큰과 사용자 ID 연결 (otaku.session.mode=jdbc)
+ */
+@Entity
+@Table(name = "user_sessions", indexes = @Index(name = "idx_user_sessions_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserSession implements Persistable<String> {
+
+    // 세션 토큰의 SHA-256 (Base64url)
+    @Id
+    @Column(length = 43)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // tokenHash를 직접 지정하므로 save() 시 merge(SELECT) 대신 persist 하도록 표시
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public UserSession(String tokenHash, UUID userId, Instant expiresAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String getId() {
+        return tokenHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -0,0 +1,17 @@
+package com.otaku.wallet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CacheStatsDto {
+    private final String name;              // 캐시 이름
+    private final long size;                // 현재 항목 수 (근사값)
+    private final long hitCount;            // 적중 횟수
+    private final long missCount;           // 미적중 횟수
+    private final double hitRate;           // 적중률
+    private final long evictionCount;       // 크기/만료로 제거된 횟수
+}
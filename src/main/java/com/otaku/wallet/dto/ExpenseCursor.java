@@ -0,0 +1,47 @@
+package com.otaku.wallet.dto;
+
+import com.otaku.wallet.domain.Expense;
+import com.otaku.wallet.exception.InvalidExpenseDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 지출 목록 커서 (purchaseDate, id)
+ * 클라이언트에는 Base64 문자열로만 노출되는 불투명 토큰
+ */
+public record ExpenseCursor(LocalDate purchaseDate, Long id) {
+
+    private static final char SEPARATOR = ':';
+
+    public static ExpenseCursor of(Expense expense) {
+        return new ExpenseCursor(expense.getPurchaseDate(), expense.getId());
+    }
+
+    /**
+     * 커서 토큰을 해석
+     *
+     * @param token encode()로 만든 토큰
+     * @return 커서
+     * @throws InvalidExpenseDataException 토큰 형식이 잘못된 경우
+     */
+    public static ExpenseCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new ExpenseCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidExpenseDataException("잘못된 커서입니다: " + token, e);
+        }
+    }
+
+    public String encode() {
+        String raw = purchaseDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
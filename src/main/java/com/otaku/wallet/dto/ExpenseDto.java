@@ -17,7 +17,7 @@ public class ExpenseDto {
 
         @NotNull(message = "금액은 필수입니다")
         @Positive(message = "금액은 양수여야 합니다")
-        private final Integer amount;
+        private final Long amount;
 
         @NotNull(message = "카테고리는 필수입니다")
         private final ExpenseCategory category;
@@ -35,36 +35,79 @@ public class ExpenseDto {
 
     }
 
+    /**
+     * 일부 항목만 수정 (PATCH) - null인 항목은 그대로 둠
+     * 설명을 비우려면 PUT(Request)으로 전체를 보냄
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Patch {
+
+        @Positive(message = "금액은 양수여야 합니다")
+        private final Long amount;
+
+        private final ExpenseCategory category;
+
+        @Size(max = 500, message = "설명은 500자 이내여야 합니다.")
+        private final String description;
+
+        @Min(value = 1)
+        @Max(value = 5)
+        private final Integer satisfactionRating;
+
+        private final LocalDate purchaseDate;
+
+        public boolean isEmpty() {
+            return amount == null && category == null && description == null
+                    && satisfactionRating == null && purchaseDate == null;
+        }
+    }
+
+    /**
+     * 지출 응답 (목록 응답에서 행마다 만들어지므로 숫자는 기본형, 빌더 없이 생성자로 바로 생성)
+     * JSON은 ExpenseResponseSerializer가 씀
+     */
     @Getter
-    @Builder
     @AllArgsConstructor
     public static class Response {
-        private final Long id;
-        private final Integer amount;
-        private final Integer displayAmount;
+        private final long id;
+        private final long amount;
+        private final long displayAmount;
         private final ExpenseCategory category;
         private final String categoryEmoji;
-        private final Integer satisfactionRating;
+        private final int satisfactionRating;
         private final Boolean isSatisfied;
         private final String description;
         private final LocalDate purchaseDate;
         private final LocalDateTime createdAt;
         private final LocalDateTime updatedAt;
+        private final long version;
+
+        /**
+         * 목록 조회용 JPQL 생성자 프로젝션 - 엔티티를 영속성 컨텍스트에 올리지 않고 응답에 쓰는 컬럼만 읽음
+         */
+        public Response(Long id, Long amount, Long displayAmount, ExpenseCategory category,
+                        Integer satisfactionRating, Boolean isSatisfied, String description,
+                        LocalDate purchaseDate, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+            this(id, amount, displayAmount, category, category.getEmoji(), satisfactionRating, isSatisfied,
+                    description, purchaseDate, createdAt, updatedAt, version);
+        }
 
         public static Response from(Expense expense){
-            return Response.builder()
-                    .id(expense.getId())
-                    .amount(expense.getAmount())
-                    .displayAmount(expense.getDisplayAmount())
-                    .category(expense.getCategory())
-                    .categoryEmoji(expense.getCategory().getEmoji())
-                    .satisfactionRating(expense.getSatisfactionRating())
-                    .isSatisfied(expense.getIsSatisfied())
-                    .description(expense.getDescription())
-                    .purchaseDate(expense.getPurchaseDate())
-                    .createdAt(expense.getCreatedAt())
-                    .updatedAt(expense.getUpdatedAt())
-                    .build();
+            return new Response(
+                    expense.getId(),
+                    expense.getAmount(),
+                    expense.getDisplayAmount(),
+                    expense.getCategory(),
+                    expense.getCategory().getEmoji(),
+                    expense.getSatisfactionRating(),
+                    expense.getIsSatisfied(),
+                    expense.getDescription(),
+                    expense.getPurchaseDate(),
+                    expense.getCreatedAt(),
+                    expense.getUpdatedAt(),
+                    expense.getVersion() != null ? expense.getVersion() : 0L  // 저장 전 엔티티는 첫 버전(0)
+            );
         }
 
     }
@@ -0,0 +1,16 @@
+package com.otaku.wallet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ExpensePageDto {
+    private final List<ExpenseDto.Response> content;    // 현재 페이지 지출 목록
+    private final String nextCursor;                    // 다음 페이지 커서 (마지막 페이지면 null)
+    private final boolean hasNext;                      // 다음 페이지 존재 여부
+}
@@ -0,0 +1,218 @@
+package com.otaku.wallet.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.otaku.wallet.domain.ExpenseCategory;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 지출 응답 JSON 직렬화
+ * 목록 응답은 행 수만큼 호출되므로 BeanSerializer의 프로퍼티 탐색/리플렉션 없이 필드를 순서대로 직접 씀
+ * 필드 이름과 카테고리 이름/이모지는 미리 인코딩해 두고 그대로 복사
+ * 날짜는 ObjectMapper 설정이 기본 ISO 문자열이면 char 버퍼에 직접 쓰고 (행마다 생기던 String/StringBuilder 제거),
+ * 형식을 바꿨다면 등록된 직렬화기(JavaTimeModule)를 그대로 사용
+ */
+@JsonComponent
+public class ExpenseResponseSerializer extends StdSerializer<ExpenseDto.Response> implements ContextualSerializer {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString AMOUNT = new SerializedString("amount");
+    private static final SerializedString DISPLAY_AMOUNT = new SerializedString("displayAmount");
+    private static final SerializedString CATEGORY = new SerializedString("category");
+    private static final SerializedString CATEGORY_EMOJI = new SerializedString("categoryEmoji");
+    private static final SerializedString SATISFACTION_RATING = new SerializedString("satisfactionRating");
+    private static final SerializedString IS_SATISFIED = new SerializedString("isSatisfied");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString PURCHASE_DATE = new SerializedString("purchaseDate");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString VERSION = new SerializedString("version");
+
+    private static final Map<ExpenseCategory, SerializedString> CATEGORY_NAMES = encode(ExpenseCategory::name);
+    private static final Map<ExpenseCategory, SerializedString> CATEGORY_EMOJIS = encode(ExpenseCategory::getEmoji);
+
+    // "yyyy-MM-ddTHH:mm:ss.nnnnnnnnn"
+    private static final int MAX_ISO_LENGTH = 29;
+
+    // createContextual()에서 한 번만 찾아 둠 (null이면 호출마다 찾음)
+    private final JsonSerializer<Object> dateSerializer;
+    private final JsonSerializer<Object> dateTimeSerializer;
+    private final boolean isoDates;
+
+    public ExpenseResponseSerializer() {
+        this(null, null, false);
+    }
+
+    private ExpenseResponseSerializer(JsonSerializer<Object> dateSerializer, JsonSerializer<Object> dateTimeSerializer,
+                                      boolean isoDates) {
+        super(ExpenseDto.Response.class);
+        this.dateSerializer = dateSerializer;
+        this.dateTimeSerializer = dateTimeSerializer;
+        this.isoDates = isoDates;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        JsonSerializer<Object> date = provider.findValueSerializer(LocalDate.class, property);
+        JsonSerializer<Object> dateTime = provider.findValueSerializer(LocalDateTime.class, property);
+        return new ExpenseResponseSerializer(date, dateTime, isDefaultIso(provider, date, dateTime));
+    }
+
+    // JavaTimeModule 기본 직렬화기 + 타임스탬프/패턴 설정 없음 → ISO_LOCAL_DATE, ISO_LOCAL_DATE_TIME 문자열
+    private static boolean isDefaultIso(SerializerProvider provider, JsonSerializer<?> date, JsonSerializer<?> dateTime) {
+        return date.getClass() == LocalDateSerializer.class
+                && dateTime.getClass() == LocalDateTimeSerializer.class
+                && !provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                && isStringFormat(provider.getDefaultPropertyFormat(LocalDate.class))
+                && isStringFormat(provider.getDefaultPropertyFormat(LocalDateTime.class));
+    }
+
+    private static boolean isStringFormat(JsonFormat.Value format) {
+        return !format.hasPattern()
+                && (format.getShape() == JsonFormat.Shape.ANY || format.getShape() == JsonFormat.Shape.STRING);
+    }
+
+    @Override
+    public void serialize(ExpenseDto.Response expense, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(expense);
+
+        gen.writeFieldName(ID);
+        gen.writeNumber(expense.getId());
+        gen.writeFieldName(AMOUNT);
+        gen.writeNumber(expense.getAmount());
+        gen.writeFieldName(DISPLAY_AMOUNT);
+        gen.writeNumber(expense.getDisplayAmount());
+        gen.writeFieldName(CATEGORY);
+        gen.writeString(CATEGORY_NAMES.get(expense.getCategory()));
+        gen.writeFieldName(CATEGORY_EMOJI);
+        gen.writeString(CATEGORY_EMOJIS.get(expense.getCategory()));
+        gen.writeFieldName(SATISFACTION_RATING);
+        gen.writeNumber(expense.getSatisfactionRating());
+        gen.writeFieldName(IS_SATISFIED);
+        gen.writeBoolean(Boolean.TRUE.equals(expense.getIsSatisfied()));
+
+        gen.writeFieldName(DESCRIPTION);
+        if (expense.getDescription() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(expense.getDescription());
+        }
+
+        // 세 날짜 필드가 같은 버퍼를 씀 (행마다 char[] 하나)
+        char[] buffer = isoDates ? new char[MAX_ISO_LENGTH] : null;
+        gen.writeFieldName(PURCHASE_DATE);
+        writeDate(expense.getPurchaseDate(), buffer, gen, provider);
+        gen.writeFieldName(CREATED_AT);
+        writeDateTime(expense.getCreatedAt(), buffer, gen, provider);
+        gen.writeFieldName(UPDATED_AT);
+        writeDateTime(expense.getUpdatedAt(), buffer, gen, provider);
+
+        gen.writeFieldName(VERSION);
+        gen.writeNumber(expense.getVersion());
+
+        gen.writeEndObject();
+    }
+
+    private void writeDate(LocalDate date, char[] buffer, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (buffer != null && date != null && isIsoYear(date.getYear())) {
+            gen.writeString(buffer, 0, isoDate(buffer, 0, date));
+        } else {
+            writeValue(date, dateSerializer, gen, provider);
+        }
+    }
+
+    private void writeDateTime(LocalDateTime dateTime, char[] buffer, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (buffer != null && dateTime != null && isIsoYear(dateTime.getYear())) {
+            int length = isoDate(buffer, 0, dateTime.toLocalDate());
+            buffer[length++] = 'T';
+            gen.writeString(buffer, 0, isoTime(buffer, length, dateTime.toLocalTime()));
+        } else {
+            writeValue(dateTime, dateTimeSerializer, gen, provider);
+        }
+    }
+
+    // 4자리 연도 밖(부호 붙는 연도)은 등록된 직렬화기에 맡김
+    private static boolean isIsoYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    // yyyy-MM-dd, 쓴 위치 다음 인덱스 반환
+    private static int isoDate(char[] buffer, int pos, LocalDate date) {
+        pos = digits(buffer, pos, date.getYear(), 4);
+        buffer[pos++] = '-';
+        pos = digits(buffer, pos, date.getMonthValue(), 2);
+        buffer[pos++] = '-';
+        return digits(buffer, pos, date.getDayOfMonth(), 2);
+    }
+
+    // HH:mm:ss[.n] - ISO_LOCAL_TIME과 같이 나노초는 0이면 생략, 아니면 끝의 0을 뺀 자릿수만
+    private static int isoTime(char[] buffer, int pos, LocalTime time) {
+        pos = digits(buffer, pos, time.getHour(), 2);
+        buffer[pos++] = ':';
+        pos = digits(buffer, pos, time.getMinute(), 2);
+        buffer[pos++] = ':';
+        pos = digits(buffer, pos, time.getSecond(), 2);
+
+        int nano = time.getNano();
+        if (nano == 0) {
+            return pos;
+        }
+        buffer[pos++] = '.';
+        int width = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            width--;
+        }
+        return digits(buffer, pos, nano, width);
+    }
+
+    // 0을 채워 width 자리로 씀
+    private static int digits(char[] buffer, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+
+    private static void writeValue(Object value, JsonSerializer<Object> serializer,
+                                   JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (serializer == null) {
+            provider.defaultSerializeValue(value, gen);
+        } else {
+            serializer.serialize(value, gen, provider);
+        }
+    }
+
+    private static Map<ExpenseCategory, SerializedString> encode(Function<ExpenseCategory, String> value) {
+        Map<ExpenseCategory, SerializedString> encoded = new EnumMap<>(ExpenseCategory.class);
+        for (ExpenseCategory category : ExpenseCategory.values()) {
+            encoded.put(category, new SerializedString(value.apply(category)));
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,51 @@
+package com.otaku.wallet.dto;
+
+import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.exception.InvalidExpenseDataException;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 지출 검색 조건 (모든 항목 선택, 범위는 양 끝 포함)
+ *
+ * @param category  카테고리 (category=GOODS&category=GAME 처럼 여러 개 가능)
+ * @param minRating 최소 별점
+ * @param maxRating 최대 별점
+ * @param from      구매 날짜 시작 (yyyy-MM-dd)
+ * @param to        구매 날짜 끝 (yyyy-MM-dd)
+ * @param minAmount 최소 실제 금액
+ * @param maxAmount 최대 실제 금액
+ */
+public record ExpenseSearchCondition(
+        List<ExpenseCategory> category,
+        Integer minRating,
+        Integer maxRating,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        Long minAmount,
+        Long maxAmount
+) {
+
+    public static ExpenseSearchCondition empty() {
+        return new ExpenseSearchCondition(null, null, null, null, null, null, null);
+    }
+
+    /**
+     * 범위 조건 검증
+     *
+     * @throws InvalidExpenseDataException 시작값이 끝값보다 큰 경우
+     */
+    public void validate() {
+        if (minRating != null && maxRating != null && minRating > maxRating) {
+            throw new InvalidExpenseDataException("최소 별점이 최대 별점보다 큽니다: " + minRating + " > " + maxRating);
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidExpenseDataException("시작 날짜가 끝 날짜보다 늦습니다: " + from + " > " + to);
+        }
+        if (minAmount != null && maxAmount != null && minAmount > maxAmount) {
+            throw new InvalidExpenseDataException("최소 금액이 최대 금액보다 큽니다: " + minAmount + " > " + maxAmount);
+        }
+    }
+}
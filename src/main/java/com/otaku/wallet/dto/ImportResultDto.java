@@ -0,0 +1,10 @@
+package com.otaku.wallet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportResultDto {
+    private final long importedCount;      // 등록된 지출 개수
+}
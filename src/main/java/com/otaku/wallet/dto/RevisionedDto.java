@@ -0,0 +1,15 @@
+package com.otaku.wallet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 응답 본문과 그 본문을 읽은 시점의 사용자 데이터 버전 (ETag)
+ * 함께 캐시해, 캐시된 본문에 다른 시점의 버전이 ETag로 붙지 않게 함
+ */
+@Getter
+@AllArgsConstructor
+public class RevisionedDto<T> {
+    private final long revision;    // 본문을 읽기 직전의 데이터 버전
+    private final T body;           // 응답 본문
+}
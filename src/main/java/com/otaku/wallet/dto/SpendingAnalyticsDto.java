@@ -0,0 +1,77 @@
+package com.otaku.wallet.dto;
+
+import com.otaku.wallet.domain.ExpenseCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+
+public class SpendingAnalyticsDto {
+
+    // 기간 분석 (월별 / 카테고리별 / 별점별)
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Overview {
+        private final YearMonth from;                       // 시작 월
+        private final YearMonth to;                         // 끝 월
+        private final List<MonthlySpending> monthly;        // 월별 (지출 없는 달은 0)
+        private final List<CategorySpending> byCategory;    // 카테고리별 (총액 많은 순)
+        private final List<RatingSpending> byRating;        // 별점별 (높은 순)
+    }
+
+    // 주간 분석 (월요일 시작 ISO 주)
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Weekly {
+        private final LocalDate from;
+        private final LocalDate to;
+        private final List<WeeklySpending> weekly;          // 주별 (지출 없는 주는 0)
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class MonthlySpending {
+        private final YearMonth month;
+        private final long totalAmount;
+        private final long displayAmount;
+        private final long expenseCount;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class WeeklySpending {
+        private final LocalDate weekStart;                  // 주의 월요일
+        private final long totalAmount;
+        private final long displayAmount;
+        private final long expenseCount;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class CategorySpending {
+        private final ExpenseCategory category;
+        private final String categoryEmoji;
+        private final long totalAmount;
+        private final long displayAmount;
+        private final long expenseCount;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class RatingSpending {
+        private final int satisfactionRating;
+        private final long totalAmount;
+        private final long displayAmount;
+        private final long expenseCount;
+    }
+}
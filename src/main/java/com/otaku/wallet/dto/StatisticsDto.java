@@ -4,13 +4,16 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+/**
+ * 통계 응답 (금액은 원 단위 long - 사용자 누적액이 int 범위(약 21억 원)를 넘을 수 있음)
+ */
 @Getter
 @Builder
 @AllArgsConstructor
 public class StatisticsDto {
-    private final Integer totalAmount;      // 실제 총액
-    private final Integer displayAmount;    // 표시 총액
-    private final Integer savedAmount;      // 절약액
-    private final Long satisfiedCount;      // 만족 지출 개수
-    private final Long totalCount;          // 전체 지출 개수
-}
\ No newline at end of file
+    private final long totalAmount;         // 실제 총액
+    private final long displayAmount;       // 표시 총액
+    private final long savedAmount;         // 절약액
+    private final long satisfiedCount;      // 만족 지출 개수
+    private final long totalCount;          // 전체 지출 개수
+}
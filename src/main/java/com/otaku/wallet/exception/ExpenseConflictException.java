@@ -0,0 +1,11 @@
+package com.otaku.wallet.exception;
+
+/**
+ * 요청한 버전(If-Match)과 현재 지출 버전이 다를 때 발생하는 예외
+ */
+public class ExpenseConflictException extends RuntimeException {
+
+    public ExpenseConflictException(Long id) {
+        super("다른 곳에서 먼저 수정된 지출입니다. 다시 조회한 뒤 수정해주세요. ID: " + id);
+    }
+}
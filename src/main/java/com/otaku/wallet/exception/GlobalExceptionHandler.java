@@ -3,6 +3,7 @@ package com.otaku.wallet.exception;
 import com.otaku.wallet.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -62,6 +63,31 @@ public class GlobalExceptionHandler {
                 .body(errorResponse);
     }
 
+    /**
+     * If-Match 버전 불일치, 또는 동시에 수정되어 낙관적 잠금 실패 (412)
+     * 먼저 반영된 수정을 덮어쓰지 않고 클라이언트가 다시 조회하도록 함
+     */
+    @ExceptionHandler({ExpenseConflictException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ErrorResponse> handleConflictException(
+            RuntimeException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Expense update conflict: {}", ex.getMessage());
+
+        String message = ex instanceof ExpenseConflictException
+                ? ex.getMessage()
+                : "다른 곳에서 먼저 수정된 지출입니다. 다시 조회한 뒤 수정해주세요.";
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                message,
+                request.getRequestURI()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .body(errorResponse);
+    }
+
     /**
      * Bean Validation 실패 (@Valid 검증 실패) (400)
      */
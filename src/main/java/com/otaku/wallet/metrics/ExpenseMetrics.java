@@ -0,0 +1,33 @@
+package com.otaku.wallet.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지출 API 커스텀 지표
+ */
+@Component
+@RequiredArgsConstructor
+public class ExpenseMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 목록 조회 한 번에 반환한 행 수 기록 (otaku.expense.list.rows)
+     * 호출 수/합계/최대값/분위수를 함께 볼 수 있도록 게이지 대신 분포로 기록
+     *
+     * @param operation 목록 종류 (list, page)
+     * @param rows      반환한 행 수
+     */
+    public void recordListRows(String operation, int rows) {
+        DistributionSummary.builder("otaku.expense.list.rows")
+                .description("Expenses returned per list call")
+                .baseUnit("rows")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(rows);
+    }
+}
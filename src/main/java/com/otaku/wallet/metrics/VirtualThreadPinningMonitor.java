@@ -0,0 +1,104 @@
+package com.otaku.wallet.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 감지
+ * JFR jdk.VirtualThreadPinned 이벤트를 구독해 synchronized 블록 등에서 캐리어 스레드를 붙잡은 경우
+ * 경고 로그와 otaku.vthread.pinned 카운터(source: h2, postgresql, hikari, hibernate, app, other)로 보고
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::report);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold={})", threshold);
+    }
+
+    @Override
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void report(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event);
+        String source = source(frames);
+
+        Counter.builder("otaku.vthread.pinned")
+                .description("Virtual thread pinned events longer than the threshold")
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+
+        log.warn("Virtual thread pinned for {} ms (source={})\n{}",
+                event.getDuration().toMillis(), source,
+                frames.stream()
+                        .limit(LOGGED_FRAMES)
+                        .map(frame -> "\tat " + frame.getMethod().getType().getName()
+                                + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                        .collect(Collectors.joining("\n")));
+    }
+
+    private static List<RecordedFrame> frames(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        return stackTrace != null ? stackTrace.getFrames() : List.of();
+    }
+
+    // 스택에서 처음 만나는 드라이버/라이브러리/애플리케이션 프레임으로 원인 분류
+    private static String source(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("org.h2.")) {
+                return "h2";
+            }
+            if (type.startsWith("org.postgresql.")) {
+                return "postgresql";
+            }
+            if (type.startsWith("com.zaxxer.hikari.")) {
+                return "hikari";
+            }
+            if (type.startsWith("org.hibernate.")) {
+                return "hibernate";
+            }
+            if (type.startsWith("com.otaku.wallet.")) {
+                return "app";
+            }
+        }
+        return "other";
+    }
+}
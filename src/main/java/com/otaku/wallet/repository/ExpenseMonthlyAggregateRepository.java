@@ -0,0 +1,76 @@
+package com.otaku.wallet.repository;
+
+import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.domain.ExpenseMonthlyAggregate;
+import com.otaku.wallet.domain.ExpenseMonthlyAggregateId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ExpenseMonthlyAggregateRepository
+        extends JpaRepository<ExpenseMonthlyAggregate, ExpenseMonthlyAggregateId> {
+
+    // 구간 하나에 변경분 반영 (DB에서 더함), 반영된 행 수 반환
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ExpenseMonthlyAggregate a SET " +
+            "a.totalAmount = a.totalAmount + :totalAmount, " +
+            "a.displayAmount = a.displayAmount + :displayAmount, " +
+            "a.expenseCount = a.expenseCount + :expenseCount " +
+            "WHERE a.id.userId = :userId AND a.id.bucketMonth = :month " +
+            "AND a.id.category = :category AND a.id.satisfactionRating = :rating")
+    int applyDelta(@Param("userId") UUID userId,
+                   @Param("month") LocalDate month,
+                   @Param("category") ExpenseCategory category,
+                   @Param("rating") int rating,
+                   @Param("totalAmount") long totalAmount,
+                   @Param("displayAmount") long displayAmount,
+                   @Param("expenseCount") long expenseCount);
+
+    // 월별 합계 (userId 필터, 기간은 월의 1일 기준 양 끝 포함)
+    @Query("SELECT a.id.bucketMonth AS month, SUM(a.totalAmount) AS totalAmount, " +
+            "SUM(a.displayAmount) AS displayAmount, SUM(a.expenseCount) AS expenseCount " +
+            "FROM ExpenseMonthlyAggregate a " +
+            "WHERE a.id.userId = :userId AND a.id.bucketMonth BETWEEN :from AND :to " +
+            "GROUP BY a.id.bucketMonth HAVING SUM(a.expenseCount) > 0 " +
+            "ORDER BY a.id.bucketMonth")
+    List<SpendingTotals.ByMonth> sumByMonth(@Param("userId") UUID userId,
+                                            @Param("from") LocalDate from,
+                                            @Param("to") LocalDate to);
+
+    // 카테고리별 합계 (userId 필터)
+    @Query("SELECT a.id.category AS category, SUM(a.totalAmount) AS totalAmount, " +
+            "SUM(a.displayAmount) AS displayAmount, SUM(a.expenseCount) AS expenseCount " +
+            "FROM ExpenseMonthlyAggregate a " +
+            "WHERE a.id.userId = :userId AND a.id.bucketMonth BETWEEN :from AND :to " +
+            "GROUP BY a.id.category HAVING SUM(a.expenseCount) > 0 " +
+            "ORDER BY SUM(a.totalAmount) DESC")
+    List<SpendingTotals.ByCategory> sumByCategory(@Param("userId") UUID userId,
+                                                  @Param("from") LocalDate from,
+                                                  @Param("to") LocalDate to);
+
+    // 별점별 합계 (userId 필터)
+    @Query("SELECT a.id.satisfactionRating AS satisfactionRating, SUM(a.totalAmount) AS totalAmount, " +
+            "SUM(a.displayAmount) AS displayAmount, SUM(a.expenseCount) AS expenseCount " +
+            "FROM ExpenseMonthlyAggregate a " +
+            "WHERE a.id.userId = :userId AND a.id.bucketMonth BETWEEN :from AND :to " +
+            "GROUP BY a.id.satisfactionRating HAVING SUM(a.expenseCount) > 0 " +
+            "ORDER BY a.id.satisfactionRating DESC")
+    List<SpendingTotals.ByRating> sumByRating(@Param("userId") UUID userId,
+                                              @Param("from") LocalDate from,
+                                              @Param("to") LocalDate to);
+
+    // 사용자의 전체 집계 행
+    List<ExpenseMonthlyAggregate> findByIdUserId(UUID userId);
+
+    // 재계산 전 사용자 집계 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ExpenseMonthlyAggregate a WHERE a.id.userId = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
+}
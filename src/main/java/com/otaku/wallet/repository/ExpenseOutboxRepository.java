@@ -0,0 +1,37 @@
+package com.otaku.wallet.repository;
+
+import com.otaku.wallet.domain.ExpenseOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ExpenseOutboxRepository extends JpaRepository<ExpenseOutboxEvent, Long> {
+
+    // 대기 이벤트가 있는 사용자 (가장 오래된 이벤트 순)
+    @Query("SELECT o.userId FROM ExpenseOutboxEvent o GROUP BY o.userId ORDER BY MIN(o.id)")
+    List<UUID> findPendingUserIds(Pageable pageable);
+
+    // 사용자의 대기 이벤트를 오래된 순으로 잠금 조회 - 다른 작업이 잠근 행은 건너뜀 (SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT o FROM ExpenseOutboxEvent o WHERE o.userId = :userId ORDER BY o.id")
+    List<ExpenseOutboxEvent> lockPending(@Param("userId") UUID userId, Pageable pageable);
+
+    // 재계산으로 롤업을 덮어쓴 사용자의 대기 롤업 정리 (이미 원본 데이터에 반영됨)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ExpenseOutboxEvent o SET o.rollupPending = false " +
+            "WHERE o.userId = :userId AND o.rollupPending = true")
+    int clearRollupPending(@Param("userId") UUID userId);
+}
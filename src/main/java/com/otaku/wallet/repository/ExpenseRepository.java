@@ -2,48 +2,128 @@ package com.otaku.wallet.repository;
 
 import com.otaku.wallet.domain.Expense;
 import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.dto.ExpenseDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface ExpenseRepository extends JpaRepository<Expense, Long> {
+public interface ExpenseRepository extends JpaRepository<Expense, Long>, JpaSpecificationExecutor<Expense>,
+        ExpenseRepositoryCustom {
 
-    // userId로 필터링된 전체 조회
-    List<Expense> findByUserId(String userId);
+    // 목록 응답 프로젝션 (엔티티/스냅샷 없이 응답 DTO를 바로 생성)
+    String LIST_VIEW = "SELECT new com.otaku.wallet.dto.ExpenseDto$Response(" +
+            "e.id, e.amount, e.displayAmount, e.category, e.satisfactionRating, e.isSatisfied, " +
+            "e.description, e.purchaseDate, e.createdAt, e.updatedAt, e.version) FROM Expense e ";
 
-    // userId로 필터링된 단건 조회
-    Optional<Expense> findByIdAndUserId(Long id, String userId);
+    // userId로 필터링된 전체 조회
+    List<Expense> findByUserId(UUID userId);
 
     // 카테고리 별 조회 (userId 필터)
-    List<Expense> findByUserIdAndCategory(String userId, ExpenseCategory category);
+    List<Expense> findByUserIdAndCategory(UUID userId, ExpenseCategory category);
 
     // 만족한 지출만 보기 (userId 필터)
-    List<Expense> findByUserIdAndSatisfactionRating(String userId, Integer rating);
+    List<Expense> findByUserIdAndSatisfactionRating(UUID userId, Integer rating);
+
+    // 전체 목록 - 프로젝션 (userId 필터)
+    @Query(LIST_VIEW + "WHERE e.userId = :userId")
+    List<ExpenseDto.Response> findListByUserId(@Param("userId") UUID userId);
+
+    // 카테고리 별 목록 - 프로젝션 (userId 필터)
+    @Query(LIST_VIEW + "WHERE e.userId = :userId AND e.category = :category")
+    List<ExpenseDto.Response> findListByUserIdAndCategory(@Param("userId") UUID userId,
+                                                          @Param("category") ExpenseCategory category);
+
+    // 별점 별 목록 - 프로젝션 (userId 필터)
+    @Query(LIST_VIEW + "WHERE e.userId = :userId AND e.satisfactionRating = :rating")
+    List<ExpenseDto.Response> findListByUserIdAndSatisfactionRating(@Param("userId") UUID userId,
+                                                                    @Param("rating") Integer rating);
 
     // 날짜 범위 조회 (userId 필터)
-    List<Expense> findByUserIdAndPurchaseDateBetween(String userId, LocalDate start, LocalDate end);
+    List<Expense> findByUserIdAndPurchaseDateBetween(UUID userId, LocalDate start, LocalDate end);
 
     // 최신순 정렬 (userId 필터)
-    List<Expense> findByUserIdOrderByPurchaseDateDesc(String userId);
+    List<Expense> findByUserIdOrderByPurchaseDateDesc(UUID userId);
+
+    // 커서 첫 페이지 - 최신순, 읽기 전용 (userId 필터)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT e FROM Expense e WHERE e.userId = :userId " +
+            "ORDER BY e.purchaseDate DESC, e.id DESC")
+    List<Expense> findFirstPageByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    // 커서 다음 페이지 - (purchaseDate, id) 보다 뒤쪽, 읽기 전용 (userId 필터)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT e FROM Expense e WHERE e.userId = :userId " +
+            "AND (e.purchaseDate < :purchaseDate " +
+            "OR (e.purchaseDate = :purchaseDate AND e.id < :id)) " +
+            "ORDER BY e.purchaseDate DESC, e.id DESC")
+    List<Expense> findPageByUserIdAfter(@Param("userId") UUID userId,
+                                        @Param("purchaseDate") LocalDate purchaseDate,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    // 전체 스트리밍 - 최신순, 읽기 전용 (userId 필터, 트랜잭션 안에서 사용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Expense e WHERE e.userId = :userId " +
+            "ORDER BY e.purchaseDate DESC, e.id DESC")
+    Stream<Expense> streamByUserId(@Param("userId") UUID userId);
 
     // 만족 지출 개수(5점) (userId 필터)
-    long countByUserIdAndSatisfactionRating(String userId, Integer rating);
+    long countByUserIdAndSatisfactionRating(UUID userId, Integer rating);
 
     // 전체 개수 (userId 필터)
-    long countByUserId(String userId);
+    long countByUserId(UUID userId);
 
     // 실제 총 지출액 (userId 필터)
     @Query("SELECT SUM(e.amount) FROM Expense e WHERE e.userId = :userId")
-    Integer getTotalAmountByUserId(@Param("userId") String userId);
+    Long getTotalAmountByUserId(@Param("userId") UUID userId);
 
     // 표시 지출액 (userId 필터)
     @Query("SELECT SUM(e.displayAmount) FROM Expense e WHERE e.userId = :userId")
-    Integer getTotalDisplayAmountByUserId(@Param("userId") String userId);
+    Long getTotalDisplayAmountByUserId(@Param("userId") UUID userId);
+
+    // 통계 전체를 한 번에 집계 (userId 필터)
+    @Query("SELECT COALESCE(SUM(e.amount), 0) AS totalAmount, " +
+            "COALESCE(SUM(e.displayAmount), 0) AS displayAmount, " +
+            "COALESCE(SUM(e.amount - e.displayAmount), 0) AS savedAmount, " +
+            "COALESCE(SUM(CASE WHEN e.satisfactionRating = 5 THEN 1 ELSE 0 END), 0) AS satisfiedCount, " +
+            "COUNT(e) AS totalCount " +
+            "FROM Expense e WHERE e.userId = :userId")
+    ExpenseStatistics getStatisticsByUserId(@Param("userId") UUID userId);
+
+    // 구매 날짜별 합계 (userId 필터, 주간 분석용)
+    @Query("SELECT e.purchaseDate AS purchaseDate, SUM(e.amount) AS totalAmount, " +
+            "SUM(e.displayAmount) AS displayAmount, COUNT(e) AS expenseCount " +
+            "FROM Expense e WHERE e.userId = :userId AND e.purchaseDate BETWEEN :from AND :to " +
+            "GROUP BY e.purchaseDate ORDER BY e.purchaseDate")
+    List<SpendingTotals.ByDate> sumByPurchaseDate(@Param("userId") UUID userId,
+                                                  @Param("from") LocalDate from,
+                                                  @Param("to") LocalDate to);
+
+    // 월/카테고리/별점별 합계 (userId 필터, 월별 집계 재계산용)
+    @Query("SELECT YEAR(e.purchaseDate) AS purchaseYear, MONTH(e.purchaseDate) AS purchaseMonth, " +
+            "e.category AS category, e.satisfactionRating AS satisfactionRating, " +
+            "SUM(e.amount) AS totalAmount, SUM(e.displayAmount) AS displayAmount, COUNT(e) AS expenseCount " +
+            "FROM Expense e WHERE e.userId = :userId " +
+            "GROUP BY YEAR(e.purchaseDate), MONTH(e.purchaseDate), e.category, e.satisfactionRating")
+    List<SpendingTotals.ByBucket> sumByBucket(@Param("userId") UUID userId);
+
+    // 지출이 있는 전체 사용자 ID
+    @Query("SELECT DISTINCT e.userId FROM Expense e")
+    List<UUID> findAllUserIds();
 
 }
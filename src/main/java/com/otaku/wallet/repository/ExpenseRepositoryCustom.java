@@ -0,0 +1,27 @@
+package com.otaku.wallet.repository;
+
+import com.otaku.wallet.domain.Expense;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data 메서드 이름/@Query로 만들 수 없는 지출 조회 (구현: ExpenseRepositoryCustomImpl)
+ */
+public interface ExpenseRepositoryCustom {
+
+    /**
+     * userId로 필터링된 단건 조회 (다른 사용자의 지출이면 빈 값)
+     * 2차 캐시에 있으면 SELECT 없이, 없으면 id와 user_id를 함께 조건으로 걸어 파티션 하나만 조회
+     */
+    Optional<Expense> findByIdAndUserId(Long id, UUID userId);
+
+    /**
+     * userId로 필터링된 여러 건 조회 (다른 사용자의 지출과 없는 id는 빠짐, 순서 보장 안 함)
+     * 2차 캐시에 있는 지출은 SELECT 없이, 나머지만 id IN과 user_id를 함께 조건으로 한 번에 조회
+     * 반환된 엔티티는 영속 상태라 그대로 수정/삭제할 수 있음
+     */
+    List<Expense> findAllByIdInAndUserId(Collection<Long> ids, UUID userId);
+}
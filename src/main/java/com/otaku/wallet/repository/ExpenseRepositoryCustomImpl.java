@@ -0,0 +1,62 @@
+package com.otaku.wallet.repository;
+
+import com.otaku.wallet.domain.Expense;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public class ExpenseRepositoryCustomImpl implements ExpenseRepositoryCustom {
+
+    private static final String FIND_BY_ID_AND_USER_ID =
+            "SELECT e FROM Expense e WHERE e.id = :id AND e.userId = :userId";
+
+    private static final String FIND_ALL_BY_ID_IN_AND_USER_ID =
+            "SELECT e FROM Expense e WHERE e.id IN :ids AND e.userId = :userId";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Expense> findByIdAndUserId(Long id, UUID userId) {
+        if (entityManager.getEntityManagerFactory().getCache().contains(Expense.class, id)) {
+            return Optional.ofNullable(entityManager.find(Expense.class, id))
+                    .filter(expense -> expense.getUserId().equals(userId));
+        }
+        // 쿼리로 읽은 엔티티도 2차 캐시에 저장되므로 다음 조회부터는 위 경로를 탐
+        return entityManager.createQuery(FIND_BY_ID_AND_USER_ID, Expense.class)
+                .setParameter("id", id)
+                .setParameter("userId", userId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Expense> findAllByIdInAndUserId(Collection<Long> ids, UUID userId) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        List<Expense> expenses = new ArrayList<>(ids.size());
+        List<Long> uncached = new ArrayList<>();
+        for (Long id : ids) {
+            if (cache.contains(Expense.class, id)) {
+                Expense expense = entityManager.find(Expense.class, id);
+                if (expense != null && expense.getUserId().equals(userId)) {
+                    expenses.add(expense);
+                }
+            } else {
+                uncached.add(id);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            expenses.addAll(entityManager.createQuery(FIND_ALL_BY_ID_IN_AND_USER_ID, Expense.class)
+                    .setParameter("ids", uncached)
+                    .setParameter("userId", userId)
+                    .getResultList());
+        }
+        return expenses;
+    }
+}
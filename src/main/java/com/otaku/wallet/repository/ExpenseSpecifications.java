@@ -0,0 +1,82 @@
+package com.otaku.wallet.repository;
+
+import com.otaku.wallet.domain.Expense;
+import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.dto.ExpenseSearchCondition;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 지출 검색 조건 (JPA Specification)
+ * 값이 없는 조건은 null을 반환해 where 절에서 빠짐
+ */
+public final class ExpenseSpecifications {
+
+    private ExpenseSpecifications() {
+    }
+
+    /**
+     * 검색 조건 전체를 하나의 Specification으로 조합 (항상 userId 필터 포함)
+     */
+    public static Specification<Expense> search(UUID userId, ExpenseSearchCondition condition) {
+        return Specification.where(userIdEquals(userId))
+                .and(categoryIn(condition.category()))
+                .and(ratingBetween(condition.minRating(), condition.maxRating()))
+                .and(purchaseDateBetween(condition.from(), condition.to()))
+                .and(amountBetween(condition.minAmount(), condition.maxAmount()));
+    }
+
+    // userId 필터
+    public static Specification<Expense> userIdEquals(UUID userId) {
+        return (root, query, cb) -> cb.equal(root.get("userId"), userId);
+    }
+
+    // 카테고리 (여러 개면 IN)
+    public static Specification<Expense> categoryIn(Collection<ExpenseCategory> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> categories.size() == 1
+                ? cb.equal(root.get("category"), categories.iterator().next())
+                : root.get("category").in(categories);
+    }
+
+    // 별점 범위 (양 끝 포함)
+    public static Specification<Expense> ratingBetween(Integer min, Integer max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        if (min != null && min.equals(max)) {
+            return (root, query, cb) -> cb.equal(root.get("satisfactionRating"), min);
+        }
+        return between("satisfactionRating", min, max);
+    }
+
+    // 구매 날짜 범위 (양 끝 포함)
+    public static Specification<Expense> purchaseDateBetween(LocalDate from, LocalDate to) {
+        return between("purchaseDate", from, to);
+    }
+
+    // 실제 금액 범위 (양 끝 포함)
+    public static Specification<Expense> amountBetween(Long min, Long max) {
+        return between("amount", min, max);
+    }
+
+    private static <T extends Comparable<? super T>> Specification<Expense> between(String attribute, T min, T max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (min == null) {
+                return cb.lessThanOrEqualTo(root.get(attribute), max);
+            }
+            if (max == null) {
+                return cb.greaterThanOrEqualTo(root.get(attribute), min);
+            }
+            return cb.between(root.get(attribute), min, max);
+        };
+    }
+}
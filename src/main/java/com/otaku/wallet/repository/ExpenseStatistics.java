@@ -0,0 +1,23 @@
+package com.otaku.wallet.repository;
+
+/**
+ * 통계 집계 결과 projection
+ * 한 번의 집계 쿼리로 StatisticsDto에 필요한 값을 모두 가져옴
+ */
+public interface ExpenseStatistics {
+
+    // 실제 총액
+    Long getTotalAmount();
+
+    // 표시 총액
+    Long getDisplayAmount();
+
+    // 절약액 (실제 총액 - 표시 총액)
+    Long getSavedAmount();
+
+    // 만족 지출 개수 (5점)
+    Long getSatisfiedCount();
+
+    // 전체 지출 개수
+    Long getTotalCount();
+}
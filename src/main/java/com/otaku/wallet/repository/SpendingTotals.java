@@ -0,0 +1,49 @@
+package com.otaku.wallet.repository;
+
+import com.otaku.wallet.domain.ExpenseCategory;
+
+import java.time.LocalDate;
+
+/**
+ * 구간별 지출 합계 프로젝션
+ * 하위 인터페이스마다 GROUP BY 기준 컬럼만 다름
+ */
+public interface SpendingTotals {
+
+    Long getTotalAmount();
+
+    Long getDisplayAmount();
+
+    Long getExpenseCount();
+
+    // 월별 (구매 월의 1일)
+    interface ByMonth extends SpendingTotals {
+        LocalDate getMonth();
+    }
+
+    // 카테고리별
+    interface ByCategory extends SpendingTotals {
+        ExpenseCategory getCategory();
+    }
+
+    // 별점별
+    interface ByRating extends SpendingTotals {
+        Integer getSatisfactionRating();
+    }
+
+    // 구매 날짜별
+    interface ByDate extends SpendingTotals {
+        LocalDate getPurchaseDate();
+    }
+
+    // 월별 집계 재계산용 (구매 연/월, 카테고리, 별점)
+    interface ByBucket extends SpendingTotals {
+        Integer getPurchaseYear();
+
+        Integer getPurchaseMonth();
+
+        ExpenseCategory getCategory();
+
+        Integer getSatisfactionRating();
+    }
+}
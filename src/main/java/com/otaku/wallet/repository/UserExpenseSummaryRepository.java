@@ -0,0 +1,46 @@
+package com.otaku.wallet.repository;
+
+import com.otaku.wallet.domain.UserExpenseSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UserExpenseSummaryRepository extends JpaRepository<UserExpenseSummary, UUID> {
+
+    // 변경분 반영 (동시 요청에도 값을 잃지 않도록 DB에서 더함) + 버전 증가, 반영된 행 수 반환
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserExpenseSummary s SET " +
+            "s.totalAmount = s.totalAmount + :totalAmount, " +
+            "s.displayAmount = s.displayAmount + :displayAmount, " +
+            "s.satisfiedCount = s.satisfiedCount + :satisfiedCount, " +
+            "s.totalCount = s.totalCount + :totalCount, " +
+            "s.revision = s.revision + 1 " +
+            "WHERE s.userId = :userId")
+    int applyDelta(@Param("userId") UUID userId,
+                   @Param("totalAmount") long totalAmount,
+                   @Param("displayAmount") long displayAmount,
+                   @Param("satisfiedCount") long satisfiedCount,
+                   @Param("totalCount") long totalCount);
+
+    // 사용자 지출 데이터 버전 (PK 조회 1건, 지출 행은 읽지 않음)
+    @Query("SELECT s.revision FROM UserExpenseSummary s WHERE s.userId = :userId")
+    Optional<Long> findRevision(@Param("userId") UUID userId);
+
+    // 재계산 중 변경분 반영을 막기 위한 행 잠금 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserExpenseSummary s WHERE s.userId = :userId")
+    Optional<UserExpenseSummary> findForUpdate(@Param("userId") UUID userId);
+
+    // 롤업이 있는 전체 사용자 ID
+    @Query("SELECT s.userId FROM UserExpenseSummary s")
+    List<UUID> findAllUserIds();
+}
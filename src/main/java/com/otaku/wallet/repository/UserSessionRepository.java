@@ -0,0 +1,33 @@
+package com.otaku.wallet.repository;
+
+import com.otaku.wallet.domain.UserSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface UserSessionRepository extends JpaRepository<UserSession, String> {
+
+    // 세션 조회는 항상 primary에서 (기본 readOnly 트랜잭션이면 복제본으로 가서, 방금 만든 세션을 못 찾고 새 사용자 ID를 발급함)
+    @Override
+    @Transactional
+    Optional<UserSession> findById(String tokenHash);
+
+    // 만료 시간 연장
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserSession s SET s.expiresAt = :expiresAt WHERE s.tokenHash = :tokenHash")
+    int extend(@Param("tokenHash") String tokenHash, @Param("expiresAt") Instant expiresAt);
+
+    // 만료된 세션 정리
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UserSession s WHERE s.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
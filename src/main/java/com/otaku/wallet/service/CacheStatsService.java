@@ -0,0 +1,51 @@
+package com.otaku.wallet.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.otaku.wallet.dto.CacheStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 조회 캐시, Hibernate 2차 캐시 영역의 적중/미적중/제거 횟수 조회
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private static final String SECOND_LEVEL_PREFIX = "hibernate.";
+
+    private final CacheManager cacheManager;
+    private final javax.cache.CacheManager secondLevelCacheManager;
+
+    // 조회 캐시 + Hibernate 2차 캐시 영역 ("hibernate." 접두사)
+    public List<CacheStatsDto> getCacheStats() {
+        Stream<CacheStatsDto> caches = cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .filter(cache -> cache.getNativeCache() instanceof Cache<?, ?>)
+                .map(cache -> toDto(cache.getName(), (Cache<?, ?>) cache.getNativeCache()));
+        Stream<CacheStatsDto> regions = StreamSupport.stream(secondLevelCacheManager.getCacheNames().spliterator(), false)
+                .map(name -> toDto(SECOND_LEVEL_PREFIX + name,
+                        secondLevelCacheManager.getCache(name).unwrap(Cache.class)));
+        return Stream.concat(caches, regions).toList();
+    }
+
+    private static CacheStatsDto toDto(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatsDto.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
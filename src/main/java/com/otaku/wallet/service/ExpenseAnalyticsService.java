@@ -0,0 +1,143 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.dto.SpendingAnalyticsDto;
+import com.otaku.wallet.dto.SpendingAnalyticsDto.CategorySpending;
+import com.otaku.wallet.dto.SpendingAnalyticsDto.MonthlySpending;
+import com.otaku.wallet.dto.SpendingAnalyticsDto.RatingSpending;
+import com.otaku.wallet.dto.SpendingAnalyticsDto.WeeklySpending;
+import com.otaku.wallet.exception.InvalidExpenseDataException;
+import com.otaku.wallet.repository.ExpenseMonthlyAggregateRepository;
+import com.otaku.wallet.repository.ExpenseRepository;
+import com.otaku.wallet.repository.SpendingTotals;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 기간별 지출 분석
+ * 월별/카테고리별/별점별은 월별 집계 테이블에서, 주별은 원본 지출을 날짜별로 GROUP BY 해서 계산
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExpenseAnalyticsService {
+
+    // 기본 조회 기간
+    private static final int DEFAULT_MONTHS = 12;
+    private static final int DEFAULT_WEEKS = 12;
+
+    // 한 번에 조회할 수 있는 최대 기간
+    private static final int MAX_MONTHS = 120;
+    private static final int MAX_WEEKS = 53;
+
+    private final ExpenseMonthlyAggregateRepository aggregateRepository;
+    private final ExpenseRepository expenseRepository;
+
+    /**
+     * 월별 / 카테고리별 / 별점별 지출
+     *
+     * @param from 시작 월 (null이면 to 기준 최근 12개월)
+     * @param to   끝 월 (null이면 이번 달)
+     */
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "analytics"}, histogram = true)
+    public SpendingAnalyticsDto.Overview getOverview(UUID userId, YearMonth from, YearMonth to) {
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(DEFAULT_MONTHS - 1);
+        long months = ChronoUnit.MONTHS.between(start, end) + 1;
+        if (months < 1) {
+            throw new InvalidExpenseDataException("시작 월이 끝 월보다 늦습니다: " + start + " > " + end);
+        }
+        if (months > MAX_MONTHS) {
+            throw new InvalidExpenseDataException("최대 " + MAX_MONTHS + "개월까지 조회할 수 있습니다");
+        }
+
+        LocalDate fromDay = start.atDay(1);
+        LocalDate toDay = end.atDay(1);
+
+        // 지출 없는 달도 0으로 채워 연속된 시계열로 반환
+        Map<YearMonth, MonthlySpending> monthly = new LinkedHashMap<>();
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            monthly.put(month, new MonthlySpending(month, 0, 0, 0));
+        }
+        for (SpendingTotals.ByMonth row : aggregateRepository.sumByMonth(userId, fromDay, toDay)) {
+            YearMonth month = YearMonth.from(row.getMonth());
+            monthly.put(month, new MonthlySpending(month,
+                    row.getTotalAmount(), row.getDisplayAmount(), row.getExpenseCount()));
+        }
+
+        List<CategorySpending> byCategory = aggregateRepository.sumByCategory(userId, fromDay, toDay).stream()
+                .map(row -> new CategorySpending(row.getCategory(), row.getCategory().getEmoji(),
+                        row.getTotalAmount(), row.getDisplayAmount(), row.getExpenseCount()))
+                .toList();
+
+        List<RatingSpending> byRating = aggregateRepository.sumByRating(userId, fromDay, toDay).stream()
+                .map(row -> new RatingSpending(row.getSatisfactionRating(),
+                        row.getTotalAmount(), row.getDisplayAmount(), row.getExpenseCount()))
+                .toList();
+
+        return SpendingAnalyticsDto.Overview.builder()
+                .from(start)
+                .to(end)
+                .monthly(new ArrayList<>(monthly.values()))
+                .byCategory(byCategory)
+                .byRating(byRating)
+                .build();
+    }
+
+    /**
+     * 주별 지출 (월요일 시작)
+     *
+     * @param from 시작 날짜 (null이면 to 기준 최근 12주, 해당 주의 월요일로 맞춤)
+     * @param to   끝 날짜 (null이면 오늘)
+     */
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "analytics-weekly"}, histogram = true)
+    public SpendingAnalyticsDto.Weekly getWeekly(UUID userId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = weekStart(from != null ? from : end.minusWeeks(DEFAULT_WEEKS - 1));
+        if (start.isAfter(end)) {
+            throw new InvalidExpenseDataException("시작 날짜가 끝 날짜보다 늦습니다: " + start + " > " + end);
+        }
+        if (ChronoUnit.WEEKS.between(start, end) + 1 > MAX_WEEKS) {
+            throw new InvalidExpenseDataException("최대 " + MAX_WEEKS + "주까지 조회할 수 있습니다");
+        }
+
+        // 날짜별 합계(최대 371행)를 주 단위로 접음
+        Map<LocalDate, long[]> weeks = new LinkedHashMap<>();
+        for (LocalDate week = start; !week.isAfter(end); week = week.plusWeeks(1)) {
+            weeks.put(week, new long[3]);
+        }
+        for (SpendingTotals.ByDate row : expenseRepository.sumByPurchaseDate(userId, start, end)) {
+            long[] totals = weeks.get(weekStart(row.getPurchaseDate()));
+            totals[0] += row.getTotalAmount();
+            totals[1] += row.getDisplayAmount();
+            totals[2] += row.getExpenseCount();
+        }
+
+        List<WeeklySpending> weekly = weeks.entrySet().stream()
+                .map(week -> new WeeklySpending(week.getKey(),
+                        week.getValue()[0], week.getValue()[1], week.getValue()[2]))
+                .toList();
+
+        return SpendingAnalyticsDto.Weekly.builder()
+                .from(start)
+                .to(end)
+                .weekly(weekly)
+                .build();
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
@@ -0,0 +1,30 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.domain.ExpenseOutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 지출 변경 감사 로그 (로거 이름 otaku.audit - 별도 파일/수집기로 분리 가능)
+ */
+@Slf4j(topic = "otaku.audit")
+@Component
+@Order(2)
+public class ExpenseAuditLogger implements ExpenseEventListener {
+
+    @Override
+    public void onEvents(UUID userId, List<ExpenseOutboxEvent> events) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        for (ExpenseOutboxEvent event : events) {
+            log.info("expense {} userId={} expenseId={} count={} amountDelta={} at={}",
+                    event.getType(), userId, event.getExpenseId(), event.getExpenseCount(),
+                    event.getDelta().getTotalAmount(), event.getCreatedAt());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.dto.ExpenseDto;
+import com.otaku.wallet.exception.InvalidExpenseDataException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 지출 CSV를 한 줄씩 읽어 ExpenseDto.Request로 변환
+ * 첫 줄은 헤더(amount, category, description, satisfactionRating, purchaseDate, 순서 무관)
+ * 큰따옴표로 감싼 값 안의 쉼표와 "" 이스케이프를 지원
+ */
+class ExpenseCsvReader implements Iterator<ExpenseDto.Request> {
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("amount", "category", "satisfactionrating", "purchasedate");
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private String nextLine;
+    private int lineNumber;
+
+    ExpenseCsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        readHeader();
+        this.nextLine = readDataLine();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextLine != null;
+    }
+
+    @Override
+    public ExpenseDto.Request next() {
+        if (nextLine == null) {
+            throw new NoSuchElementException();
+        }
+        ExpenseDto.Request request = toRequest(split(nextLine));
+        nextLine = readDataLine();
+        return request;
+    }
+
+    // 현재 행 번호 (헤더 = 1)
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    private void readHeader() {
+        String header = readLine();
+        if (header == null) {
+            throw new InvalidExpenseDataException("CSV 헤더가 없습니다");
+        }
+        List<String> names = split(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new InvalidExpenseDataException("CSV 헤더에 " + required + " 컬럼이 없습니다");
+            }
+        }
+    }
+
+    // 빈 줄은 건너뜀
+    private String readDataLine() {
+        String line;
+        do {
+            line = readLine();
+        } while (line != null && line.isBlank());
+        return line;
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ExpenseDto.Request toRequest(List<String> values) {
+        try {
+            return new ExpenseDto.Request(
+                    Long.valueOf(value(values, "amount")),
+                    ExpenseCategory.valueOf(value(values, "category").toUpperCase(Locale.ROOT)),
+                    emptyToNull(value(values, "description")),
+                    Integer.valueOf(value(values, "satisfactionrating")),
+                    LocalDate.parse(value(values, "purchasedate"))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidExpenseDataException(lineNumber + "행: 값을 해석할 수 없습니다 - " + e.getMessage(), e);
+        }
+    }
+
+    private String value(List<String> values, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return "";
+        }
+        return values.get(index).trim();
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
@@ -0,0 +1,20 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.domain.ExpenseOutboxEvent;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 지출 변경 이벤트 후처리
+ * 요청 트랜잭션이 아닌 outbox 처리 트랜잭션에서 사용자별로 모인 이벤트를 받음
+ * 처리 중 예외가 나면 이벤트는 삭제되지 않고 다음 처리에서 다시 전달됨
+ */
+public interface ExpenseEventListener {
+
+    /**
+     * @param userId 사용자 ID
+     * @param events 오래된 순으로 정렬된 이벤트 (한 번에 최대 otaku.outbox.batch-size 건)
+     */
+    void onEvents(UUID userId, List<ExpenseOutboxEvent> events);
+}
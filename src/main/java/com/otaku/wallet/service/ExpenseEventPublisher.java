@@ -0,0 +1,57 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.config.ExpenseOutboxProperties;
+import com.otaku.wallet.config.ExpenseOutboxProperties.RollupMode;
+import com.otaku.wallet.datasource.ReadYourWritesTracker;
+import com.otaku.wallet.domain.ExpenseDelta;
+import com.otaku.wallet.domain.ExpenseEventType;
+import com.otaku.wallet.domain.ExpenseOutboxEvent;
+import com.otaku.wallet.domain.ExpenseSnapshot;
+import com.otaku.wallet.repository.ExpenseOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * 지출 변경 이벤트 발행 (지출을 변경한 트랜잭션에 참여)
+ * 이벤트를 outbox 테이블에 저장하고, 커밋되면 ExpenseOutboxDispatcher가 별도 스레드에서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class ExpenseEventPublisher {
+
+    private final ExpenseOutboxRepository outboxRepository;
+    private final ExpenseSummaryService summaryService;
+    private final ExpenseOutboxProperties properties;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ReadYourWritesTracker writesTracker;
+
+    // 단건 변경 (등록이면 before, 삭제면 after가 null)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(UUID userId, ExpenseEventType type, Long expenseId,
+                        ExpenseSnapshot before, ExpenseSnapshot after) {
+        publish(userId, type, expenseId, 1, ExpenseDelta.between(before, after));
+    }
+
+    /**
+     * 여러 건의 변경을 이벤트 하나로 발행
+     * 비동기 롤업 모드(기본)면 outbox 저장만 요청 트랜잭션에서 하고, 통계와 버전(ETag)은 이벤트 처리 때 반영
+     * 동기 롤업 모드면 통계와 버전을 바로 반영 (outbox는 감사 로그 등 다른 리스너용)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(UUID userId, ExpenseEventType type, Long expenseId, int expenseCount, ExpenseDelta delta) {
+        boolean deferRollup = properties.rollupMode() == RollupMode.ASYNC;
+        if (deferRollup) {
+            // 롤업 행을 건드리지 않으므로 여기서 primary 고정을 기록 (다음 읽기가 복제본의 이전 목록을 보지 않게)
+            writesTracker.recordWrite(userId);
+        } else {
+            summaryService.apply(userId, delta);
+        }
+        outboxRepository.save(ExpenseOutboxEvent.of(userId, type, expenseId, expenseCount, delta, deferRollup));
+        applicationEventPublisher.publishEvent(new ExpenseOutboxAppended(userId));
+    }
+}
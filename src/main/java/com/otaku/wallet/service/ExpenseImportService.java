@@ -0,0 +1,169 @@
+package com.otaku.wallet.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.otaku.wallet.config.CacheConfig;
+import com.otaku.wallet.config.ExpenseImportProperties;
+import com.otaku.wallet.domain.Expense;
+import com.otaku.wallet.domain.ExpenseDelta;
+import com.otaku.wallet.domain.ExpenseEventType;
+import com.otaku.wallet.domain.ExpenseSnapshot;
+import com.otaku.wallet.dto.ExpenseDto;
+import com.otaku.wallet.dto.ImportResultDto;
+import com.otaku.wallet.exception.InvalidExpenseDataException;
+import com.otaku.wallet.repository.ExpenseRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 지출 일괄 등록 (JSON 배열 / CSV)
+ * 행을 하나씩 읽으면서 검증하고, batchSize 단위로 flush 해 JDBC 배치 INSERT로 저장
+ * 한 행이라도 잘못되면 전체를 롤백
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExpenseImportService {
+
+    private final ExpenseRepository expenseRepository;
+    private final ExpenseEventPublisher expenseEvents;
+    private final ExpenseImportProperties importProperties;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    // JSON 배열 일괄 등록
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EXPENSE_LIST, key = "#userId"),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, key = "#userId")
+    })
+    public ImportResultDto importJson(UUID userId, InputStream json) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidExpenseDataException("JSON 배열 형식이어야 합니다");
+            }
+            // START_ARRAY 토큰을 소비한 상태로 넘겨야 배열 자체가 아니라 안의 객체를 하나씩 읽음 (END_ARRAY에서 끝남)
+            parser.clearCurrentToken();
+            MappingIterator<ExpenseDto.Request> rows =
+                    objectMapper.readerFor(ExpenseDto.Request.class).readValues(parser);
+            int[] rowNumber = {0};
+            Iterator<ExpenseDto.Request> counted = new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return parse(rows::hasNextValue, rowNumber[0] + 1);
+                }
+
+                @Override
+                public ExpenseDto.Request next() {
+                    rowNumber[0]++;
+                    return parse(rows::nextValue, rowNumber[0]);
+                }
+            };
+            return importRows(userId, counted, () -> rowNumber[0]);
+        }
+    }
+
+    // CSV 일괄 등록
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EXPENSE_LIST, key = "#userId"),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, key = "#userId")
+    })
+    public ImportResultDto importCsv(UUID userId, Reader csv) {
+        ExpenseCsvReader rows = new ExpenseCsvReader(csv);
+        return importRows(userId, rows, rows::getLineNumber);
+    }
+
+    private ImportResultDto importRows(UUID userId, Iterator<ExpenseDto.Request> rows, IntSupplier rowNumber) {
+        List<Expense> batch = new ArrayList<>(importProperties.batchSize());
+        long imported = 0;
+        ExpenseDelta delta = new ExpenseDelta();
+
+        while (rows.hasNext()) {
+            ExpenseDto.Request request = rows.next();
+            validate(request, rowNumber.getAsInt());
+            if (imported >= importProperties.maxRows()) {
+                throw new InvalidExpenseDataException("한 번에 등록할 수 있는 지출은 최대 "
+                        + importProperties.maxRows() + "건입니다");
+            }
+
+            Expense expense = Expense.builder()
+                    .userId(userId)
+                    .amount(request.getAmount())
+                    .category(request.getCategory())
+                    .description(request.getDescription())
+                    .satisfactionRating(request.getSatisfactionRating())
+                    .purchaseDate(request.getPurchaseDate())
+                    .build();
+            batch.add(expense);
+
+            imported++;
+            delta.add(ExpenseSnapshot.of(expense));
+
+            if (batch.size() == importProperties.batchSize()) {
+                flush(batch);
+            }
+        }
+        flush(batch);
+
+        expenseEvents.publish(userId, ExpenseEventType.IMPORTED, null, Math.toIntExact(imported), delta);
+        log.info("Imported {} expenses for user {}", imported, userId);
+        return new ImportResultDto(imported);
+    }
+
+    // 모아둔 행을 배치 INSERT 후 영속성 컨텍스트를 비워 메모리 유지
+    private void flush(List<Expense> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        expenseRepository.saveAll(batch);
+        entityManager.flush();
+        entityManager.clear();
+        batch.clear();
+    }
+
+    private void validate(ExpenseDto.Request request, int rowNumber) {
+        Set<ConstraintViolation<ExpenseDto.Request>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            throw new InvalidExpenseDataException(rowNumber + "행: " + message);
+        }
+    }
+
+    private static <T> T parse(JsonCall<T> call, int rowNumber) {
+        try {
+            return call.call();
+        } catch (IOException | RuntimeException e) {
+            throw new InvalidExpenseDataException(rowNumber + "행: 값을 해석할 수 없습니다 - " + e.getMessage(), e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface JsonCall<T> {
+        T call() throws IOException;
+    }
+}
@@ -0,0 +1,9 @@
+package com.otaku.wallet.service;
+
+import java.util.UUID;
+
+/**
+ * outbox에 이벤트가 추가됨 (커밋 후 해당 사용자 처리를 바로 요청하는 신호)
+ */
+public record ExpenseOutboxAppended(UUID userId) {
+}
@@ -0,0 +1,98 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.config.ExpenseOutboxProperties;
+import com.otaku.wallet.repository.ExpenseOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbox 이벤트를 크기가 정해진 실행기에서 사용자별로 처리
+ * - 커밋 직후 해당 사용자 작업을 큐에 넣고 (요청 스레드는 기다리지 않음)
+ * - 같은 사용자의 작업이 이미 대기 중이면 새로 넣지 않아, 몰린 변경이 한 트랜잭션으로 합쳐짐
+ * - 큐가 가득 찼거나 재시작/다른 노드에서 남은 이벤트는 주기 조회로 다시 처리
+ */
+@Slf4j
+@Component
+public class ExpenseOutboxDispatcher implements DisposableBean {
+
+    private final ExpenseOutboxProcessor processor;
+    private final ExpenseOutboxRepository outboxRepository;
+    private final ExpenseOutboxProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    // 실행 대기 중인 사용자 (실행이 시작되면 제거되어 그 뒤 이벤트는 새 작업으로 처리)
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+
+    public ExpenseOutboxDispatcher(ExpenseOutboxProcessor processor,
+                                   ExpenseOutboxRepository outboxRepository,
+                                   ExpenseOutboxProperties properties) {
+        this.processor = processor;
+        this.outboxRepository = outboxRepository;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(properties.workers(), properties.workers(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                new CustomizableThreadFactory("expense-outbox-"));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppended(ExpenseOutboxAppended event) {
+        dispatch(event.userId());
+    }
+
+    @Scheduled(fixedDelayString = "${otaku.outbox.poll-interval:5s}")
+    public void poll() {
+        try {
+            outboxRepository.findPendingUserIds(PageRequest.ofSize(properties.queueCapacity()))
+                    .forEach(this::dispatch);
+        } catch (DataAccessException e) {
+            log.warn("Expense outbox poll failed: {}", e.getMessage());
+        }
+    }
+
+    private void dispatch(UUID userId) {
+        if (!queued.add(userId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> drain(userId));
+        } catch (RejectedExecutionException e) {
+            queued.remove(userId);
+            log.debug("Expense outbox queue full, deferring to next poll. userId={}", userId);
+        }
+    }
+
+    private void drain(UUID userId) {
+        queued.remove(userId);
+        try {
+            while (processor.process(userId) == properties.batchSize()) {
+                // 한 묶음이 가득 찼으면 남은 이벤트를 이어서 처리
+            }
+        } catch (RuntimeException e) {
+            log.warn("Expense outbox processing failed, will retry. userId={}", userId, e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
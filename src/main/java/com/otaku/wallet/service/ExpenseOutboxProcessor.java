@@ -0,0 +1,47 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.config.ExpenseOutboxProperties;
+import com.otaku.wallet.domain.ExpenseOutboxEvent;
+import com.otaku.wallet.repository.ExpenseOutboxRepository;
+import com.otaku.wallet.repository.UserExpenseSummaryRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사용자별 outbox 이벤트 처리 (한 묶음 = 한 트랜잭션)
+ */
+@Component
+@RequiredArgsConstructor
+public class ExpenseOutboxProcessor {
+
+    private final ExpenseOutboxRepository outboxRepository;
+    private final UserExpenseSummaryRepository summaryRepository;
+    private final List<ExpenseEventListener> listeners;
+    private final ExpenseOutboxProperties properties;
+
+    /**
+     * 사용자의 대기 이벤트를 오래된 순으로 한 묶음 처리하고 삭제
+     * 롤업 행을 먼저 잠가 재계산(rebuild)과 같은 순서로 잠금을 잡음 (재계산은 롤업 행을 잠근 뒤 대기 롤업을 정리)
+     *
+     * @return 처리한 이벤트 수 (batchSize와 같으면 남은 이벤트가 있을 수 있음)
+     */
+    @Transactional
+    @Timed(value = "otaku.expense.outbox", histogram = true)
+    public int process(UUID userId) {
+        summaryRepository.findForUpdate(userId);
+        List<ExpenseOutboxEvent> events = outboxRepository.lockPending(userId, PageRequest.ofSize(properties.batchSize()));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        listeners.forEach(listener -> listener.onEvents(userId, events));
+        outboxRepository.deleteAllByIdInBatch(events.stream().map(ExpenseOutboxEvent::getId).toList());
+        return events.size();
+    }
+}
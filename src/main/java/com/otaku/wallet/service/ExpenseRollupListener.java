@@ -0,0 +1,50 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.config.CacheConfig;
+import com.otaku.wallet.domain.ExpenseDelta;
+import com.otaku.wallet.domain.ExpenseOutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 비동기 롤업 모드에서 대기 중인 변경분을 모아 한 번에 롤업에 반영하고 버전(ETag)을 올림
+ * 목록/통계 캐시는 버전을 본문과 함께 저장하므로 둘 다 비움 (커밋 이후 반영)
+ */
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class ExpenseRollupListener implements ExpenseEventListener {
+
+    private final ExpenseSummaryService summaryService;
+    private final CacheManager cacheManager;
+
+    @Override
+    public void onEvents(UUID userId, List<ExpenseOutboxEvent> events) {
+        List<ExpenseOutboxEvent> pending = events.stream()
+                .filter(ExpenseOutboxEvent::isRollupPending)
+                .toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 금액 변화가 없는 변경 (설명만 수정 등)도 버전은 올려야 하므로 합계가 0이어도 반영
+        ExpenseDelta delta = new ExpenseDelta();
+        pending.forEach(event -> delta.plus(event.getDelta()));
+        summaryService.apply(userId, delta);
+        evict(CacheConfig.EXPENSE_LIST, userId);
+        evict(CacheConfig.STATISTICS, userId);
+    }
+
+    private void evict(String cacheName, UUID userId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(userId);
+        }
+    }
+}
@@ -1,29 +1,76 @@
 package com.otaku.wallet.service;
 
+import com.otaku.wallet.config.CacheConfig;
+import com.otaku.wallet.config.ExpensePagingProperties;
 import com.otaku.wallet.domain.Expense;
 import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.domain.ExpenseDelta;
+import com.otaku.wallet.domain.ExpenseEventType;
+import com.otaku.wallet.domain.ExpenseSnapshot;
+import com.otaku.wallet.dto.ExpenseCursor;
 import com.otaku.wallet.dto.ExpenseDto;
 import com.otaku.wallet.dto.ExpenseDto.Response;
+import com.otaku.wallet.dto.ExpensePageDto;
+import com.otaku.wallet.dto.ExpenseSearchCondition;
+import com.otaku.wallet.dto.RevisionedDto;
 import com.otaku.wallet.dto.StatisticsDto;
+import com.otaku.wallet.exception.ExpenseConflictException;
 import com.otaku.wallet.exception.ExpenseNotFoundException;
+import com.otaku.wallet.exception.InvalidExpenseDataException;
 import com.otaku.wallet.repository.ExpenseRepository;
+import com.otaku.wallet.repository.ExpenseSpecifications;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ExpenseService {
 
+    // 검색 API에서 정렬을 허용하는 속성 (인덱스 / 엔티티 필드와 일치해야 함)
+    private static final Set<String> SORTABLE_PROPERTIES =
+            Set.of("purchaseDate", "amount", "displayAmount", "satisfactionRating", "createdAt", "id");
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "purchaseDate");
+    // 일괄 삭제 한 번에 받을 수 있는 최대 id 수 (IN 절 바인드 변수 수)
+    private static final int MAX_BULK_DELETE = 1000;
+
     private final ExpenseRepository expenseRepository;
+    private final ExpenseSummaryService summaryService;
+    private final ExpenseEventPublisher expenseEvents;
+    private final ExpensePagingProperties pagingProperties;
+    private final EntityManager entityManager;
+    private final CacheManager cacheManager;
 
     // 지출 생성(post)
     @Transactional
-    public ExpenseDto.Response createExpense(String userId, ExpenseDto.Request request){
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EXPENSE_LIST, key = "#userId"),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, key = "#userId")
+    })
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "create"}, histogram = true)
+    public ExpenseDto.Response createExpense(UUID userId, ExpenseDto.Request request){
         Expense expense = Expense.builder()
                 .userId(userId)
                 .amount(request.getAmount())
@@ -33,77 +80,252 @@ public class ExpenseService {
                 .purchaseDate(request.getPurchaseDate())
                 .build();
 
-        return ExpenseDto.Response.from(expenseRepository.save(expense));
+        Expense saved = expenseRepository.save(expense);
+        expenseEvents.publish(userId, ExpenseEventType.CREATED, saved.getId(), null, ExpenseSnapshot.of(saved));
+        return ExpenseDto.Response.from(saved);
     }
 
     // 지출 단건 조회(get)
-    public ExpenseDto.Response getExpense(String userId, Long expenseId){
+    @Cacheable(cacheNames = CacheConfig.EXPENSE, key = "#userId + ':' + #expenseId")
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "get"}, histogram = true)
+    public ExpenseDto.Response getExpense(UUID userId, Long expenseId){
         Expense expense = expenseRepository.findByIdAndUserId(expenseId, userId)
                 .orElseThrow(() -> new ExpenseNotFoundException(expenseId));
 
         return ExpenseDto.Response.from(expense);
     }
 
-    // 지출 전체 조회 (getAll)
-    public List<Response> getAllExpenses(String userId) {
-        return expenseRepository.findByUserId(userId).stream()
-                .map(ExpenseDto.Response::from)
-                .collect(Collectors.toList());
+    // 지출 전체 조회 (getAll) - 캐시에 공유되므로 수정 불가 목록으로 반환
+    // 버전을 목록보다 먼저 읽어 함께 캐시 (ETag가 본문보다 앞서지 않음)
+    @Cacheable(cacheNames = CacheConfig.EXPENSE_LIST, key = "#userId")
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "list"}, histogram = true)
+    public RevisionedDto<List<Response>> getAllExpenses(UUID userId) {
+        long revision = summaryService.getRevision(userId);
+        return new RevisionedDto<>(revision, List.copyOf(expenseRepository.findListByUserId(userId)));
+    }
+
+    // 지출 커서 페이지 조회 (최신순)
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "page"}, histogram = true)
+    public ExpensePageDto getExpensePage(UUID userId, String cursor, Integer size) {
+        int pageSize = pagingProperties.resolveSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+
+        List<Expense> expenses;
+        if (cursor == null || cursor.isBlank()) {
+            expenses = expenseRepository.findFirstPageByUserId(userId, limit);
+        } else {
+            ExpenseCursor after = ExpenseCursor.decode(cursor);
+            expenses = expenseRepository.findPageByUserIdAfter(userId, after.purchaseDate(), after.id(), limit);
+        }
+
+        boolean hasNext = expenses.size() > pageSize;
+        List<Expense> page = hasNext ? expenses.subList(0, pageSize) : expenses;
+
+        return ExpensePageDto.builder()
+                .content(page.stream()
+                        .map(ExpenseDto.Response::from)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext ? ExpenseCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 지출 검색 (카테고리, 별점, 날짜, 금액 조건 + 정렬/페이지)
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "search"}, histogram = true)
+    public PagedModel<Response> searchExpenses(UUID userId, ExpenseSearchCondition condition, Pageable pageable) {
+        condition.validate();
+        PageRequest request = PageRequest.of(
+                pageable.getPageNumber(),
+                pagingProperties.resolveSize(pageable.getPageSize()),
+                resolveSort(pageable.getSort())
+        );
+
+        Page<Response> page = expenseRepository
+                .findAll(ExpenseSpecifications.search(userId, condition), request)
+                .map(ExpenseDto.Response::from);
+        return new PagedModel<>(page);
+    }
+
+    // 허용된 속성만 정렬하고, 같은 값끼리 순서가 흔들리지 않도록 id를 마지막 기준으로 추가
+    private Sort resolveSort(Sort requested) {
+        Sort sort = requested.isSorted() ? requested : DEFAULT_SORT;
+        Sort.Direction tiebreak = Sort.Direction.DESC;
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new InvalidExpenseDataException("정렬할 수 없는 항목입니다: " + order.getProperty());
+            }
+            tiebreak = order.getDirection();
+        }
+        return sort.getOrderFor("id") != null ? sort : sort.and(Sort.by(tiebreak, "id"));
+    }
+
+    // 지출 전체 스트리밍 (한 건씩 변환 후 영속성 컨텍스트에서 분리해 메모리 유지)
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "stream"}, histogram = true)
+    public void streamAllExpenses(UUID userId, Consumer<ExpenseDto.Response> consumer) {
+        try (Stream<Expense> expenses = expenseRepository.streamByUserId(userId)) {
+            expenses.forEach(expense -> {
+                consumer.accept(ExpenseDto.Response.from(expense));
+                entityManager.detach(expense);
+            });
+        }
     }
 
     // 카테고리 별 조회
-    public List<Response> getExpensesByCategory(String userId, ExpenseCategory category){
-        return expenseRepository.findByUserIdAndCategory(userId, category).stream()
-                .map(ExpenseDto.Response::from)
-                .collect(Collectors.toList());
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "list-by-category"}, histogram = true)
+    public List<Response> getExpensesByCategory(UUID userId, ExpenseCategory category){
+        return expenseRepository.findListByUserIdAndCategory(userId, category);
     }
 
     // 만족 지출 조회
-    public List<ExpenseDto.Response> getSatisfiedExpenses(String userId) {
-        return expenseRepository.findByUserIdAndSatisfactionRating(userId, 5)
-                .stream()
-                .map(ExpenseDto.Response::from)
-                .collect(Collectors.toList());
-    }
-
-    // 통계 조회
-    public StatisticsDto getStatistics(String userId) {
-        Integer totalAmount = expenseRepository.getTotalAmountByUserId(userId);
-        Integer displayAmount = expenseRepository.getTotalDisplayAmountByUserId(userId);
-
-        totalAmount = totalAmount != null ? totalAmount : 0;
-        displayAmount = displayAmount != null ? displayAmount : 0;
-
-        return StatisticsDto.builder()
-                .totalAmount(totalAmount)
-                .displayAmount(displayAmount)
-                .savedAmount(totalAmount - displayAmount)
-                .satisfiedCount(expenseRepository.countByUserIdAndSatisfactionRating(userId, 5))
-                .totalCount(expenseRepository.countByUserId(userId))
-                .build();
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "list-satisfied"}, histogram = true)
+    public List<ExpenseDto.Response> getSatisfiedExpenses(UUID userId) {
+        return expenseRepository.findListByUserIdAndSatisfactionRating(userId, 5);
+    }
+
+    // 사용자 지출 데이터 버전 (커서 페이지 ETag) - 롤업 행 PK 조회 1건
+    // 캐시하지 않음: 커밋 후로 미뤄진 저장이 제거보다 늦게 들어가면 이전 버전으로 304를 계속 응답하게 됨
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "revision"}, histogram = true)
+    public long getRevision(UUID userId) {
+        return summaryService.getRevision(userId);
+    }
+
+    // 통계 조회 (사용자별 롤업 1건) - 같은 행의 버전을 함께 캐시
+    @Cacheable(cacheNames = CacheConfig.STATISTICS, key = "#userId")
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "statistics"}, histogram = true)
+    public RevisionedDto<StatisticsDto> getStatistics(UUID userId) {
+        return summaryService.getStatistics(userId);
     }
 
 
-    // 지출 update
+    /**
+     * 지출 전체 수정 (PUT)
+     *
+     * @param expectedVersion If-Match로 받은 버전 (null이면 확인하지 않음)
+     * @throws ExpenseConflictException 버전이 다르거나 동시에 수정된 경우
+     */
     @Transactional
-    public ExpenseDto.Response updateExpense(String userId, Long expenseId, ExpenseDto.Request request){
-        Expense expense = expenseRepository.findByIdAndUserId(expenseId, userId)
-                .orElseThrow(() -> new ExpenseNotFoundException(expenseId));
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EXPENSE, key = "#userId + ':' + #expenseId"),
+            @CacheEvict(cacheNames = CacheConfig.EXPENSE_LIST, key = "#userId"),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, key = "#userId")
+    })
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "update"}, histogram = true)
+    public ExpenseDto.Response updateExpense(UUID userId, Long expenseId, ExpenseDto.Request request,
+                                             Long expectedVersion){
+        Expense expense = findForUpdate(userId, expenseId, expectedVersion);
+        ExpenseSnapshot before = ExpenseSnapshot.of(expense);
 
         // update 가능 항목 < 금액(잘못 입력한 경우), satisfactionRating(만족도 수정), description 수정)
         expense.update(request.getAmount(), request.getCategory(), request.getDescription()
                 , request.getSatisfactionRating(), request.getPurchaseDate());
+        return applyUpdate(userId, expense, before);
+    }
+
+    /**
+     * 지출 일부 수정 (PATCH) - 보낸 항목만 바꾸고, 바뀐 컬럼만 UPDATE
+     *
+     * @param expectedVersion If-Match로 받은 버전 (null이면 확인하지 않음)
+     * @throws ExpenseConflictException 버전이 다르거나 동시에 수정된 경우
+     */
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EXPENSE, key = "#userId + ':' + #expenseId"),
+            @CacheEvict(cacheNames = CacheConfig.EXPENSE_LIST, key = "#userId"),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, key = "#userId")
+    })
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "patch"}, histogram = true)
+    public ExpenseDto.Response patchExpense(UUID userId, Long expenseId, ExpenseDto.Patch patch,
+                                            Long expectedVersion) {
+        Expense expense = findForUpdate(userId, expenseId, expectedVersion);
+        if (patch.isEmpty()) {
+            return ExpenseDto.Response.from(expense);
+        }
+        ExpenseSnapshot before = ExpenseSnapshot.of(expense);
+
+        expense.update(patch.getAmount(), patch.getCategory(), patch.getDescription(),
+                patch.getSatisfactionRating(), patch.getPurchaseDate());
+        return applyUpdate(userId, expense, before);
+    }
+
+    // 행 잠금 없이 조회하고, 클라이언트가 본 버전과 다르면 바로 거절
+    private Expense findForUpdate(UUID userId, Long expenseId, Long expectedVersion) {
+        Expense expense = expenseRepository.findByIdAndUserId(expenseId, userId)
+                .orElseThrow(() -> new ExpenseNotFoundException(expenseId));
+        if (expectedVersion != null && !expectedVersion.equals(expense.getVersion())) {
+            throw new ExpenseConflictException(expenseId);
+        }
+        return expense;
+    }
+
+    // 지출 UPDATE를 먼저 flush해 버전 충돌을 롤업 반영 전에 확인하고, 증가한 버전으로 응답
+    private ExpenseDto.Response applyUpdate(UUID userId, Expense expense, ExpenseSnapshot before) {
+        expenseRepository.flush();
+        expenseEvents.publish(userId, ExpenseEventType.UPDATED, expense.getId(), before, ExpenseSnapshot.of(expense));
         return ExpenseDto.Response.from(expense);
     }
 
 
     // 지출 delete
     @Transactional
-    public void deleteExpense(String userId, Long expenseId){
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EXPENSE, key = "#userId + ':' + #expenseId"),
+            @CacheEvict(cacheNames = CacheConfig.EXPENSE_LIST, key = "#userId"),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, key = "#userId")
+    })
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "delete"}, histogram = true)
+    public void deleteExpense(UUID userId, Long expenseId){
         Expense expense = expenseRepository.findByIdAndUserId(expenseId, userId)
                 .orElseThrow(() -> new ExpenseNotFoundException(expenseId));
 
         expenseRepository.delete(expense);
+        expenseEvents.publish(userId, ExpenseEventType.DELETED, expenseId, ExpenseSnapshot.of(expense), null);
+
+    }
+
+    /**
+     * 지출 여러 건 삭제 - 2차 캐시에 없는 지출만 한 번에 조회하고, DELETE는 JDBC 배치로 묶어 보냄
+     * JPQL 일괄 DELETE는 Expense 2차 캐시 영역 전체를 비우므로 엔티티 단위로 삭제해 삭제한 항목만 제거
+     * 하나라도 없거나 다른 사용자의 지출이면 아무것도 삭제하지 않음
+     *
+     * @return 삭제된 건수
+     * @throws ExpenseNotFoundException 없는 지출이 섞여 있거나 그 사이 다른 요청이 삭제한 경우
+     */
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EXPENSE_LIST, key = "#userId"),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, key = "#userId")
+    })
+    @Timed(value = "otaku.expense.service", extraTags = {"operation", "bulk-delete"}, histogram = true)
+    public int deleteExpenses(UUID userId, Collection<Long> expenseIds) {
+        Set<Long> ids = Set.copyOf(expenseIds);
+        if (ids.isEmpty() || ids.size() > MAX_BULK_DELETE) {
+            throw new InvalidExpenseDataException("한 번에 1~" + MAX_BULK_DELETE + "건까지 삭제할 수 있습니다: " + ids.size());
+        }
+
+        List<Expense> expenses = expenseRepository.findAllByIdInAndUserId(ids, userId);
+        if (expenses.size() != ids.size()) {
+            Set<Long> found = expenses.stream().map(Expense::getId).collect(Collectors.toSet());
+            throw new ExpenseNotFoundException(ids.stream().filter(id -> !found.contains(id)).findFirst().orElseThrow());
+        }
+        ExpenseDelta delta = new ExpenseDelta();
+        expenses.forEach(expense -> delta.subtract(ExpenseSnapshot.of(expense)));
+
+        // 조회와 삭제 사이에 다른 요청이 지웠거나 수정했으면 (버전 불일치) 롤업이 어긋나지 않도록 전체 롤백
+        expenseRepository.deleteAll(expenses);
+        try {
+            expenseRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            throw new ExpenseNotFoundException("이미 삭제되었거나 변경된 지출이 있습니다. 요청 " + ids.size() + "건");
+        }
+        int deleted = expenses.size();
+        expenseEvents.publish(userId, ExpenseEventType.DELETED, null, deleted, delta);
 
+        // 단건 캐시는 키가 지출마다 달라 직접 제거 (커밋 이후 반영)
+        Cache expenseCache = cacheManager.getCache(CacheConfig.EXPENSE);
+        if (expenseCache != null) {
+            ids.forEach(id -> expenseCache.evict(userId + ":" + id));
+        }
+        return deleted;
     }
 }
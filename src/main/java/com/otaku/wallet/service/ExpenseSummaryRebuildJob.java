@@ -0,0 +1,44 @@
+package com.otaku.wallet.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사용자별 통계 롤업 재계산 작업
+ * 원본 지출 데이터로 다시 집계해 롤업과 다르면 경고 로그를 남기고 바로잡음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpenseSummaryRebuildJob {
+
+    private final ExpenseSummaryService summaryService;
+
+    /**
+     * 전체 사용자 롤업 재계산 (사용자마다 별도 트랜잭션)
+     *
+     * @return 차이가 있었던 사용자 목록
+     */
+    @Scheduled(cron = "${otaku.summary.rebuild-cron:0 0 4 * * *}")
+    public List<SummaryDrift> rebuildAll() {
+        List<SummaryDrift> drifts = new ArrayList<>();
+        List<UUID> userIds = summaryService.findAllUserIds();
+
+        for (UUID userId : userIds) {
+            SummaryDrift drift = summaryService.rebuild(userId);
+            if (drift.hasDrift()) {
+                log.warn("Expense summary drift fixed: {}", drift);
+                drifts.add(drift);
+            }
+        }
+
+        log.info("Expense summary rebuild finished. users={}, drifted={}", userIds.size(), drifts.size());
+        return drifts;
+    }
+}
@@ -0,0 +1,237 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.config.CacheConfig;
+import com.otaku.wallet.datasource.ReadYourWritesTracker;
+import com.otaku.wallet.domain.ExpenseBucket;
+import com.otaku.wallet.domain.ExpenseDelta;
+import com.otaku.wallet.domain.ExpenseMonthlyAggregate;
+import com.otaku.wallet.domain.ExpenseSnapshot;
+import com.otaku.wallet.domain.UserExpenseSummary;
+import com.otaku.wallet.dto.RevisionedDto;
+import com.otaku.wallet.dto.StatisticsDto;
+import com.otaku.wallet.repository.ExpenseMonthlyAggregateRepository;
+import com.otaku.wallet.repository.ExpenseOutboxRepository;
+import com.otaku.wallet.repository.ExpenseRepository;
+import com.otaku.wallet.repository.ExpenseStatistics;
+import com.otaku.wallet.repository.SpendingTotals;
+import com.otaku.wallet.repository.UserExpenseSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+/**
+ * 사용자별 지출 통계 롤업과 월별 집계 관리
+ * 지출 변경 시 변경 전/후 스냅샷 차이만큼 갱신하고, 필요하면 원본 데이터로 재계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExpenseSummaryService {
+
+    // 행 생성 후 변경분 UPDATE 최대 시도 횟수
+    private static final int MAX_APPLY_ATTEMPTS = 3;
+
+    private final UserExpenseSummaryRepository summaryRepository;
+    private final ExpenseMonthlyAggregateRepository aggregateRepository;
+    private final ExpenseRepository expenseRepository;
+    private final ExpenseOutboxRepository outboxRepository;
+    private final SummaryRowCreator rowCreator;
+    private final ReadYourWritesTracker writesTracker;
+
+    /**
+     * 지출 변경분을 롤업에 반영 (지출을 변경한 트랜잭션에 참여)
+     *
+     * @param userId 사용자 ID
+     * @param before 변경 전 스냅샷 (등록이면 null)
+     * @param after  변경 후 스냅샷 (삭제면 null)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(UUID userId, ExpenseSnapshot before, ExpenseSnapshot after) {
+        apply(userId, ExpenseDelta.between(before, after));
+    }
+
+    /**
+     * 여러 건의 변경분 합계를 한 번에 롤업에 반영 (지출을 변경한 트랜잭션에 참여)
+     * 사용자 롤업 행을 먼저 갱신해 행 잠금을 잡은 뒤 월별 집계를 갱신하므로 rebuild()와 겹치지 않음
+     * 지출 트랜잭션이 롤백되어도 새로 만든 행은 0으로 남을 뿐 합계에는 영향 없음
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(UUID userId, ExpenseDelta delta) {
+        // 금액/개수 변경이 없어도 (설명만 수정 등) 버전은 올려야 하므로 사용자 롤업은 항상 갱신
+        applyOrCreate(() -> summaryRepository.applyDelta(userId, delta.getTotalAmount(), delta.getDisplayAmount(),
+                        delta.getSatisfiedCount(), delta.getTotalCount()),
+                () -> rowCreator.createSummary(userId));
+
+        delta.forEachBucket((bucket, totals) -> applyOrCreate(
+                () -> aggregateRepository.applyDelta(userId, bucket.month(), bucket.category(),
+                        bucket.satisfactionRating(), totals.getTotalAmount(), totals.getDisplayAmount(),
+                        totals.getExpenseCount()),
+                () -> rowCreator.createBucket(userId, bucket)));
+
+        // 복제본을 쓰는 경우 잠시 이 사용자의 읽기를 primary로 고정 (복제 지연 중에도 방금 바꾼 값이 보임)
+        writesTracker.recordWrite(userId);
+    }
+
+    /**
+     * 변경분 UPDATE가 0건이면 (첫 지출) 같은 트랜잭션에서 빈 행을 없을 때만 만든 뒤 다시 UPDATE
+     * 다른 요청이 같은 행을 먼저 만들었으면 아무것도 하지 않고 (H2는 중복 키를 무시하고) 다시 UPDATE
+     * 그 사이 재계산으로 행이 지워지는 경우를 대비해 정해진 횟수만큼 반복
+     */
+    private void applyOrCreate(IntSupplier update, Runnable createRow) {
+        for (int attempt = 1; ; attempt++) {
+            if (update.getAsInt() > 0) {
+                return;
+            }
+            if (attempt == MAX_APPLY_ATTEMPTS) {
+                throw new IllegalStateException("롤업 행을 만들지 못했습니다 (" + attempt + "회 시도)");
+            }
+            try {
+                createRow.run();
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Rollup row created concurrently, retrying update: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 사용자 지출 데이터 버전 (지출이 없으면 0)
+    public long getRevision(UUID userId) {
+        return summaryRepository.findRevision(userId).orElse(0L);
+    }
+
+    // 통계 조회 (롤업 행 1건) - 같은 행의 버전을 함께 반환
+    public RevisionedDto<StatisticsDto> getStatistics(UUID userId) {
+        return summaryRepository.findById(userId)
+                .map(summary -> new RevisionedDto<>(summary.getRevision(), StatisticsDto.builder()
+                        .totalAmount(summary.getTotalAmount())
+                        .displayAmount(summary.getDisplayAmount())
+                        .savedAmount(summary.getTotalAmount() - summary.getDisplayAmount())
+                        .satisfiedCount(summary.getSatisfiedCount())
+                        .totalCount(summary.getTotalCount())
+                        .build()))
+                .orElseGet(() -> new RevisionedDto<>(0L, StatisticsDto.builder()
+                        .totalAmount(0)
+                        .displayAmount(0)
+                        .savedAmount(0)
+                        .satisfiedCount(0)
+                        .totalCount(0)
+                        .build()));
+    }
+
+    /**
+     * 원본 데이터로 재계산한 값과 롤업을 비교 (수정하지 않음)
+     *
+     * @param userId 사용자 ID
+     * @return 차이
+     */
+    public SummaryDrift verify(UUID userId) {
+        UserExpenseSummary summary = summaryRepository.findById(userId)
+                .orElseGet(() -> UserExpenseSummary.of(userId, 0, 0, 0, 0));
+        return SummaryDrift.between(summary, expenseRepository.getStatisticsByUserId(userId))
+                .withBucketDrift(countBucketDrift(currentBuckets(userId), actualBuckets(userId)));
+    }
+
+    /**
+     * 원본 데이터로 롤업을 다시 계산해 덮어씀
+     * 롤업 행을 잠근 상태에서 집계하므로 동시에 들어온 변경분을 잃지 않음
+     *
+     * @param userId 사용자 ID
+     * @return 덮어쓰기 전 차이
+     */
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EXPENSE_LIST, key = "#userId"),
+            @CacheEvict(cacheNames = CacheConfig.STATISTICS, key = "#userId")
+    })
+    public SummaryDrift rebuild(UUID userId) {
+        UserExpenseSummary summary = summaryRepository.findForUpdate(userId).orElseGet(() -> {
+            rowCreator.createSummary(userId);
+            return summaryRepository.findForUpdate(userId).orElseThrow();
+        });
+        ExpenseStatistics actual = expenseRepository.getStatisticsByUserId(userId);
+
+        Map<ExpenseBucket, ExpenseMonthlyAggregate> actualBuckets = actualBuckets(userId);
+        int bucketDrift = countBucketDrift(currentBuckets(userId), actualBuckets);
+
+        SummaryDrift drift = SummaryDrift.between(summary, actual).withBucketDrift(bucketDrift);
+        if (drift.hasDrift()) {
+            summary.overwrite(actual.getTotalAmount(), actual.getDisplayAmount(),
+                    actual.getSatisfiedCount(), actual.getTotalCount());
+        }
+        if (bucketDrift > 0) {
+            aggregateRepository.deleteByUserId(userId);
+            aggregateRepository.saveAll(actualBuckets.values());
+        }
+        // 아직 반영되지 않은 비동기 롤업은 방금 집계한 원본에 이미 포함되어 있음
+        // 버전은 이벤트 처리 때 오르므로, 덮어쓰지 않았어도 대기 롤업을 정리했으면 여기서 올림 (설명만 수정 등)
+        if (outboxRepository.clearRollupPending(userId) > 0 && !drift.hasDrift()) {
+            summaryRepository.applyDelta(userId, 0, 0, 0, 0);
+        }
+        return drift;
+    }
+
+    // 지출 또는 롤업이 있는 전체 사용자 ID
+    public List<UUID> findAllUserIds() {
+        TreeSet<UUID> userIds = new TreeSet<>(expenseRepository.findAllUserIds());
+        userIds.addAll(summaryRepository.findAllUserIds());
+        return List.copyOf(userIds);
+    }
+
+    // 현재 저장된 월별 집계 (개수 0인 구간 제외)
+    private Map<ExpenseBucket, ExpenseMonthlyAggregate> currentBuckets(UUID userId) {
+        Map<ExpenseBucket, ExpenseMonthlyAggregate> buckets = new HashMap<>();
+        for (ExpenseMonthlyAggregate aggregate : aggregateRepository.findByIdUserId(userId)) {
+            if (aggregate.getExpenseCount() != 0 || aggregate.getTotalAmount() != 0) {
+                buckets.put(aggregate.getId().toBucket(), aggregate);
+            }
+        }
+        return buckets;
+    }
+
+    // 원본 지출로 다시 계산한 월별 집계
+    private Map<ExpenseBucket, ExpenseMonthlyAggregate> actualBuckets(UUID userId) {
+        Map<ExpenseBucket, ExpenseMonthlyAggregate> buckets = new HashMap<>();
+        for (SpendingTotals.ByBucket row : expenseRepository.sumByBucket(userId)) {
+            ExpenseBucket bucket = ExpenseBucket.of(YearMonth.of(row.getPurchaseYear(), row.getPurchaseMonth()),
+                    row.getCategory(), row.getSatisfactionRating());
+            buckets.put(bucket, ExpenseMonthlyAggregate.of(userId, bucket,
+                    row.getTotalAmount(), row.getDisplayAmount(), row.getExpenseCount()));
+        }
+        return buckets;
+    }
+
+    // 값이 다른 구간 수
+    private static int countBucketDrift(Map<ExpenseBucket, ExpenseMonthlyAggregate> current,
+                                        Map<ExpenseBucket, ExpenseMonthlyAggregate> actual) {
+        Set<ExpenseBucket> keys = new HashSet<>(current.keySet());
+        keys.addAll(actual.keySet());
+
+        int drift = 0;
+        for (ExpenseBucket key : keys) {
+            ExpenseMonthlyAggregate stored = current.get(key);
+            ExpenseMonthlyAggregate expected = actual.get(key);
+            if (stored == null || expected == null
+                    || stored.getTotalAmount() != expected.getTotalAmount()
+                    || stored.getDisplayAmount() != expected.getDisplayAmount()
+                    || stored.getExpenseCount() != expected.getExpenseCount()) {
+                drift++;
+            }
+        }
+        return drift;
+    }
+}
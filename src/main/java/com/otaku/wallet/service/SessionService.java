@@ -1,59 +1,71 @@
 package com.otaku.wallet.service;
 
-import jakarta.servlet.http.HttpSession;
+import com.otaku.wallet.datasource.ReadYourWritesTracker;
+import com.otaku.wallet.session.UserIdStore;
+import com.otaku.wallet.session.UserIds;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * 사용자 세션 관리 서비스
- * 첫 방문 시 자동으로 고유 사용자 ID를 생성하고 세션에 저장
+ * 첫 방문 시 자동으로 고유 사용자 ID를 생성하고 세션 저장소(otaku.session.mode)에 저장
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class SessionService {
 
-    private static final String USER_ID_KEY = "userId";
+    private final UserIdStore userIdStore;
 
     /**
-     * 현재 세션에서 사용자 ID를 가져옴
-     * 세션에 userId가 없으면 새로 생성하여 저장
+     * 현재 요청의 사용자 ID를 가져옴
+     * 저장소에 userId가 없으면 새로 생성하여 저장
      *
-     * @param session HTTP 세션
-     * @return 사용자 고유 ID (UUID)
+     * @param request  HTTP 요청
+     * @param response HTTP 응답 (쿠키 기반 저장소가 쿠키를 씀)
+     * @return 사용자 고유 ID (UUIDv7)
      */
-    public String getUserId(HttpSession session) {
-        String userId = (String) session.getAttribute(USER_ID_KEY);
-
-        if (userId == null) {
-            // 첫 방문 시 UUID 생성
-            userId = UUID.randomUUID().toString();
-            session.setAttribute(USER_ID_KEY, userId);
-            log.info("New user created with ID: {}", userId);
-        }
+    public UUID getUserId(HttpServletRequest request, HttpServletResponse response) {
+        UUID userId = userIdStore.find(request, response).orElseGet(() -> createUserId(request, response));
+        // 이 요청의 읽기를 복제본/primary 중 어디로 보낼지 정할 때 사용 (ReadYourWritesTracker)
+        request.setAttribute(ReadYourWritesTracker.USER_ID_ATTRIBUTE, userId);
+        return userId;
+    }
 
+    // 첫 방문 시 시간순 UUIDv7 생성 (SecureRandom을 쓰지 않아 동시 첫 방문에도 막히지 않음)
+    private UUID createUserId(HttpServletRequest request, HttpServletResponse response) {
+        UUID userId = UserIds.next();
+        userIdStore.save(userId, request, response);
+        log.debug("New user created with ID: {}", userId);
         return userId;
     }
 
     /**
-     * 세션에 사용자 ID가 존재하는지 확인
+     * 요청에 사용자 ID가 존재하는지 확인
      *
-     * @param session HTTP 세션
+     * @param request  HTTP 요청
+     * @param response HTTP 응답
      * @return 사용자 ID 존재 여부
      */
-    public boolean hasUserId(HttpSession session) {
-        return session.getAttribute(USER_ID_KEY) != null;
+    public boolean hasUserId(HttpServletRequest request, HttpServletResponse response) {
+        return userIdStore.find(request, response).isPresent();
     }
 
     /**
      * 세션을 무효화하고 사용자 ID 삭제 (로그아웃)
      *
-     * @param session HTTP 세션
+     * @param request  HTTP 요청
+     * @param response HTTP 응답
      */
-    public void clearSession(HttpSession session) {
-        String userId = (String) session.getAttribute(USER_ID_KEY);
-        session.invalidate();
-        log.info("Session cleared for user ID: {}", userId);
+    public void clearSession(HttpServletRequest request, HttpServletResponse response) {
+        Optional<UUID> userId = userIdStore.find(request, response);
+        userIdStore.clear(request, response);
+        log.info("Session cleared for user ID: {}", userId.orElse(null));
     }
 }
@@ -0,0 +1,34 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.domain.UserExpenseSummary;
+import com.otaku.wallet.repository.ExpenseStatistics;
+
+import java.util.UUID;
+
+/**
+ * 롤업 값과 원본 데이터 재계산 값의 차이 (재계산 값 - 롤업 값)
+ * bucketDrift는 값이 어긋난 월별 집계 구간 수
+ */
+public record SummaryDrift(UUID userId, long totalAmount, long displayAmount,
+                           long satisfiedCount, long totalCount, int bucketDrift) {
+
+    public static SummaryDrift between(UserExpenseSummary summary, ExpenseStatistics actual) {
+        return new SummaryDrift(
+                summary.getUserId(),
+                actual.getTotalAmount() - summary.getTotalAmount(),
+                actual.getDisplayAmount() - summary.getDisplayAmount(),
+                actual.getSatisfiedCount() - summary.getSatisfiedCount(),
+                actual.getTotalCount() - summary.getTotalCount(),
+                0
+        );
+    }
+
+    public SummaryDrift withBucketDrift(int bucketDrift) {
+        return new SummaryDrift(userId, totalAmount, displayAmount, satisfiedCount, totalCount, bucketDrift);
+    }
+
+    public boolean hasDrift() {
+        return totalAmount != 0 || displayAmount != 0 || satisfiedCount != 0 || totalCount != 0
+                || bucketDrift != 0;
+    }
+}
@@ -0,0 +1,81 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.domain.ExpenseBucket;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * 비어 있는(0) 롤업 행을 없을 때만 만듦 (호출한 트랜잭션의 커넥션 그대로 사용)
+ * PostgreSQL은 INSERT ... ON CONFLICT DO NOTHING, H2는 MERGE ... WHEN NOT MATCHED 로
+ * 같은 사용자의 첫 지출이 동시에 들어와도 중복 키로 트랜잭션을 깨뜨리지 않음
+ * 행 잠금은 뒤이은 변경분 UPDATE(또는 재계산의 SELECT ... FOR UPDATE)가 잡음
+ * (H2는 동시에 같은 행을 만들면 DataIntegrityViolationException이 날 수 있으나 문장 단위로만 롤백됨)
+ * 트랜잭션 프록시를 거치지 않으므로 예외가 나도 호출한 트랜잭션이 rollback-only로 표시되지 않음
+ */
+@Component
+public class SummaryRowCreator {
+
+    private static final String POSTGRESQL_SUMMARY =
+            "INSERT INTO user_expense_summaries " +
+            "(user_id, total_amount, display_amount, satisfied_count, total_count, revision) " +
+            "VALUES (?, 0, 0, 0, 0, 0) ON CONFLICT (user_id) DO NOTHING";
+
+    private static final String H2_SUMMARY =
+            "MERGE INTO user_expense_summaries t USING (VALUES (CAST(? AS UUID))) s(user_id) " +
+            "ON t.user_id = s.user_id " +
+            "WHEN NOT MATCHED THEN INSERT " +
+            "(user_id, total_amount, display_amount, satisfied_count, total_count, revision) " +
+            "VALUES (s.user_id, 0, 0, 0, 0, 0)";
+
+    private static final String POSTGRESQL_BUCKET =
+            "INSERT INTO expense_monthly_aggregates " +
+            "(user_id, bucket_month, category, satisfaction_rating, total_amount, display_amount, expense_count) " +
+            "VALUES (?, ?, ?, ?, 0, 0, 0) " +
+            "ON CONFLICT (user_id, bucket_month, category, satisfaction_rating) DO NOTHING";
+
+    private static final String H2_BUCKET =
+            "MERGE INTO expense_monthly_aggregates t USING (VALUES " +
+            "(CAST(? AS UUID), CAST(? AS DATE), CAST(? AS VARCHAR(20)), CAST(? AS INTEGER))) " +
+            "s(user_id, bucket_month, category, satisfaction_rating) " +
+            "ON t.user_id = s.user_id AND t.bucket_month = s.bucket_month " +
+            "AND t.category = s.category AND t.satisfaction_rating = s.satisfaction_rating " +
+            "WHEN NOT MATCHED THEN INSERT " +
+            "(user_id, bucket_month, category, satisfaction_rating, total_amount, display_amount, expense_count) " +
+            "VALUES (s.user_id, s.bucket_month, s.category, s.satisfaction_rating, 0, 0, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String summarySql;
+    private final String bucketSql;
+
+    public SummaryRowCreator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        boolean postgresql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        this.summarySql = postgresql ? POSTGRESQL_SUMMARY : H2_SUMMARY;
+        this.bucketSql = postgresql ? POSTGRESQL_BUCKET : H2_BUCKET;
+    }
+
+    public void createSummary(UUID userId) {
+        requireTransaction();
+        jdbcTemplate.update(summarySql, userId);
+    }
+
+    public void createBucket(UUID userId, ExpenseBucket bucket) {
+        requireTransaction();
+        jdbcTemplate.update(bucketSql, userId, bucket.month(), bucket.category().name(), bucket.satisfactionRating());
+    }
+
+    // 빈 행만 따로 커밋되지 않도록 호출한 트랜잭션 안에서만 실행
+    private static void requireTransaction() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalTransactionStateException("롤업 행은 트랜잭션 안에서만 만들 수 있습니다");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.otaku.wallet.session;
+
+import com.otaku.wallet.config.SessionStoreProperties;
+import com.otaku.wallet.domain.UserSession;
+import com.otaku.wallet.repository.UserSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 기존 데이터소스의 user_sessions 테이블에 사용자 ID 저장 (otaku.session.mode=jdbc)
+ * 만료 시간은 남은 시간이 절반 이하일 때만 연장해 매 요청 UPDATE를 피함
+ */
+@Slf4j
+public class JdbcUserIdStore extends TokenUserIdStore {
+
+    private final UserSessionRepository sessionRepository;
+    private final Duration timeout;
+
+    public JdbcUserIdStore(SessionStoreProperties properties, UserSessionRepository sessionRepository) {
+        super(properties);
+        this.sessionRepository = sessionRepository;
+        this.timeout = properties.timeout();
+    }
+
+    @Override
+    protected Optional<UUID> load(String key) {
+        Instant now = Instant.now();
+        Optional<UserSession> session = sessionRepository.findById(key)
+                .filter(found -> found.getExpiresAt().isAfter(now));
+        session.filter(found -> found.getExpiresAt().isBefore(now.plus(timeout.dividedBy(2))))
+                .ifPresent(found -> sessionRepository.extend(key, now.plus(timeout)));
+        return session.map(UserSession::getUserId);
+    }
+
+    @Override
+    protected void store(String key, UUID userId) {
+        sessionRepository.save(new UserSession(key, userId, Instant.now().plus(timeout)));
+    }
+
+    @Override
+    protected void delete(String key) {
+        sessionRepository.deleteById(key);
+    }
+
+    // 만료 세션 정리 (기본 10분마다, "-" 이면 비활성화)
+    @Scheduled(cron = "${otaku.session.cleanup-cron:0 */10 * * * *}")
+    public void deleteExpired() {
+        int deleted = sessionRepository.deleteExpired(Instant.now());
+        log.debug("Expired sessions deleted: {}", deleted);
+    }
+}
@@ -0,0 +1,42 @@
+package com.otaku.wallet.session;
+
+import com.otaku.wallet.config.SessionStoreProperties;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis에 사용자 ID 저장 (otaku.session.mode=redis)
+ * 조회와 만료 연장을 GETEX 한 번으로 처리하고, 정리는 Redis TTL에 맡김
+ */
+public class RedisUserIdStore extends TokenUserIdStore {
+
+    private static final String KEY_PREFIX = "otaku:session:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration timeout;
+
+    public RedisUserIdStore(SessionStoreProperties properties, StringRedisTemplate redisTemplate) {
+        super(properties);
+        this.redisTemplate = redisTemplate;
+        this.timeout = properties.timeout();
+    }
+
+    @Override
+    protected Optional<UUID> load(String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().getAndExpire(KEY_PREFIX + key, timeout))
+                .map(UUID::fromString);
+    }
+
+    @Override
+    protected void store(String key, UUID userId) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, userId.toString(), timeout);
+    }
+
+    @Override
+    protected void delete(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+}
@@ -0,0 +1,37 @@
+package com.otaku.wallet.session;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 컨테이너 HttpSession에 사용자 ID 저장 (기본값, 단일 노드용)
+ */
+public class ServletSessionUserIdStore implements UserIdStore {
+
+    private static final String USER_ID_KEY = "userId";
+
+    @Override
+    public Optional<UUID> find(HttpServletRequest request, HttpServletResponse response) {
+        HttpSession session = request.getSession(false);
+        return session != null
+                ? Optional.ofNullable((UUID) session.getAttribute(USER_ID_KEY))
+                : Optional.empty();
+    }
+
+    @Override
+    public void save(UUID userId, HttpServletRequest request, HttpServletResponse response) {
+        request.getSession(true).setAttribute(USER_ID_KEY, userId);
+    }
+
+    @Override
+    public void clear(HttpServletRequest request, HttpServletResponse response) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.otaku.wallet.session;
+
+import com.otaku.wallet.config.SessionStoreProperties;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 세션 쿠키 읽기/쓰기 (HttpOnly, SameSite=Lax)
+ */
+class SessionCookies {
+
+    private final SessionStoreProperties properties;
+
+    SessionCookies(SessionStoreProperties properties) {
+        this.properties = properties;
+    }
+
+    Optional<String> read(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return Optional.empty();
+        }
+        for (Cookie cookie : cookies) {
+            if (properties.cookieName().equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                return Optional.of(cookie.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param maxAge null이면 브라우저를 닫을 때까지 유지되는 쿠키
+     */
+    void write(HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie.ResponseCookieBuilder cookie = ResponseCookie.from(properties.cookieName(), value)
+                .path("/")
+                .httpOnly(true)
+                .secure(properties.secureCookie())
+                .sameSite("Lax");
+        if (maxAge != null) {
+            cookie.maxAge(maxAge);
+        }
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.build().toString());
+    }
+
+    void expire(HttpServletResponse response) {
+        write(response, "", Duration.ZERO);
+    }
+}
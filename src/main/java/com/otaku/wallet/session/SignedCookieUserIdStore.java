@@ -0,0 +1,104 @@
+package com.otaku.wallet.session;
+
+import com.otaku.wallet.config.SessionStoreProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 서버에 상태 없이 서명된 쿠키에 사용자 ID를 담음 (otaku.session.mode=cookie)
+ * 쿠키 값: base64url(userId 16바이트).만료시각(epoch 초).base64url(HMAC-SHA256)
+ * 같은 서명 키를 쓰는 모든 노드가 검증할 수 있고 재시작해도 사용자가 유지됨
+ * 남은 시간이 절반 이하이면 새 만료 시각으로 다시 발급
+ */
+public class SignedCookieUserIdStore implements UserIdStore {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+
+    private final SessionCookies cookies;
+    private final SecretKeySpec key;
+    private final Duration timeout;
+
+    public SignedCookieUserIdStore(SessionStoreProperties properties) {
+        if (properties.signingKey() == null
+                || properties.signingKey().getBytes(StandardCharsets.UTF_8).length < MIN_KEY_BYTES) {
+            throw new IllegalStateException("otaku.session.signing-key must be at least "
+                    + MIN_KEY_BYTES + " bytes when otaku.session.mode=cookie");
+        }
+        this.cookies = new SessionCookies(properties);
+        this.key = new SecretKeySpec(properties.signingKey().getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.timeout = properties.timeout();
+    }
+
+    @Override
+    public Optional<UUID> find(HttpServletRequest request, HttpServletResponse response) {
+        Optional<String> value = cookies.read(request);
+        if (value.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String[] parts = value.get().split("\\.");
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+        String payload = parts[0] + "." + parts[1];
+        byte[] expected = sign(payload);
+        byte[] actual;
+        long expiresAt;
+        try {
+            actual = Base64.getUrlDecoder().decode(parts[2]);
+            expiresAt = Long.parseLong(parts[1]);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return Optional.empty();
+        }
+
+        long now = Instant.now().getEpochSecond();
+        if (expiresAt <= now) {
+            return Optional.empty();
+        }
+
+        UUID userId = UserIds.fromBytes(Base64.getUrlDecoder().decode(parts[0]));
+        if (expiresAt - now < timeout.toSeconds() / 2) {
+            save(userId, request, response);
+        }
+        return Optional.of(userId);
+    }
+
+    @Override
+    public void save(UUID userId, HttpServletRequest request, HttpServletResponse response) {
+        long expiresAt = Instant.now().plus(timeout).getEpochSecond();
+        String payload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(UserIds.toBytes(userId)) + "." + expiresAt;
+        String signature = Base64.getUrlEncoder().withoutPadding().encodeToString(sign(payload));
+        cookies.write(response, payload + "." + signature, timeout);
+    }
+
+    @Override
+    public void clear(HttpServletRequest request, HttpServletResponse response) {
+        cookies.expire(response);
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
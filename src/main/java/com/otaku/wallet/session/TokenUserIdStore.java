@@ -0,0 +1,68 @@
+package com.otaku.wallet.session;
+
+import com.otaku.wallet.config.SessionStoreProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 쿠키에는 임의 토큰만 두고, 사용자 ID는 외부 저장소에 두는 구현의 공통 부분
+ * 저장소 키는 토큰의 SHA-256 값이라 저장소 내용만으로는 쿠키를 만들 수 없음
+ */
+abstract class TokenUserIdStore implements UserIdStore {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int TOKEN_BYTES = 32;
+
+    private final SessionCookies cookies;
+
+    protected TokenUserIdStore(SessionStoreProperties properties) {
+        this.cookies = new SessionCookies(properties);
+    }
+
+    @Override
+    public Optional<UUID> find(HttpServletRequest request, HttpServletResponse response) {
+        return cookies.read(request).map(TokenUserIdStore::hash).flatMap(this::load);
+    }
+
+    @Override
+    public void save(UUID userId, HttpServletRequest request, HttpServletResponse response) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        store(hash(token), userId);
+        cookies.write(response, token, null);
+    }
+
+    @Override
+    public void clear(HttpServletRequest request, HttpServletResponse response) {
+        cookies.read(request).map(TokenUserIdStore::hash).ifPresent(this::delete);
+        cookies.expire(response);
+    }
+
+    /**
+     * 키로 사용자 ID 조회, 있으면 만료 시간을 연장
+     */
+    protected abstract Optional<UUID> load(String key);
+
+    protected abstract void store(String key, UUID userId);
+
+    protected abstract void delete(String key);
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.otaku.wallet.session;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 요청과 사용자 ID를 연결하는 저장소
+ * otaku.session.mode 값에 따라 구현 하나가 등록됨
+ */
+public interface UserIdStore {
+
+    /**
+     * 요청에 연결된 사용자 ID 조회 (만료되었거나 없으면 empty)
+     */
+    Optional<UUID> find(HttpServletRequest request, HttpServletResponse response);
+
+    /**
+     * 요청에 사용자 ID 연결 (필요하면 응답에 쿠키 추가)
+     */
+    void save(UUID userId, HttpServletRequest request, HttpServletResponse response);
+
+    /**
+     * 요청에 연결된 사용자 ID 삭제
+     */
+    void clear(HttpServletRequest request, HttpServletResponse response);
+}
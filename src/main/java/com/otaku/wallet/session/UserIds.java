@@ -0,0 +1,48 @@
+package com.otaku.wallet.session;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * 사용자 ID (UUIDv7, RFC 9562)
+ * 상위 48비트가 밀리초 시각이라 생성 순서대로 정렬되어 인덱스 끝에 모이고,
+ * 나머지 74비트 난수는 ThreadLocalRandom으로 채워 SecureRandom 경합 없이 생성
+ * 사용자 ID는 세션 식별용일 뿐 인증 비밀이 아님 (쿠키 토큰/서명은 별도로 SecureRandom, HMAC 사용)
+ */
+public final class UserIds {
+
+    private UserIds() {
+    }
+
+    public static UUID next() {
+        return of(System.currentTimeMillis(), ThreadLocalRandom.current());
+    }
+
+    static UUID of(long epochMillis, RandomGenerator random) {
+        // unix_ts_ms(48) | ver(4)=7 | rand_a(12)
+        long msb = (epochMillis << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+        // var(2)=10 | rand_b(62)
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    public static byte[] toBytes(UUID userId) {
+        return ByteBuffer.allocate(16)
+                .putLong(userId.getMostSignificantBits())
+                .putLong(userId.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * @throws IllegalArgumentException 16바이트가 아닌 경우
+     */
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("User id must be 16 bytes: " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
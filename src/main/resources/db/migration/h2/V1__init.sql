@@ -0,0 +1,69 @@
+-- H2 (로컬 실행/테스트) 스키마
+-- PostgreSQL 마이그레이션(V1 ~ V7)을 모두 적용한 결과와 같은 구성 (해시 파티션 제외)
+-- 엔티티 매핑을 바꾸면 여기와 db/migration/postgresql 양쪽에 새 버전을 추가
+
+CREATE SEQUENCE expenses_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE expenses (
+    id                  bigint       NOT NULL PRIMARY KEY,
+    user_id             uuid         NOT NULL,
+    amount              bigint       NOT NULL,
+    display_amount      bigint       NOT NULL,
+    category            varchar(255) NOT NULL
+        CHECK (category IN ('GOODS', 'EVENT', 'STREAMING', 'GAME', 'BOOK', 'FOOD', 'ETC')),
+    satisfaction_rating integer      NOT NULL,
+    is_satisfied        boolean      NOT NULL,
+    description         varchar(500),
+    purchase_date       date         NOT NULL,
+    created_at          timestamp(6) NOT NULL,
+    updated_at          timestamp(6),
+    version             bigint       NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_expenses_user_date_id ON expenses (user_id, purchase_date, id);
+CREATE INDEX idx_expenses_user_category ON expenses (user_id, category);
+CREATE INDEX idx_expenses_user_rating ON expenses (user_id, satisfaction_rating);
+
+CREATE TABLE user_expense_summaries (
+    user_id         uuid   NOT NULL PRIMARY KEY,
+    total_amount    bigint NOT NULL,
+    display_amount  bigint NOT NULL,
+    satisfied_count bigint NOT NULL,
+    total_count     bigint NOT NULL,
+    revision        bigint NOT NULL DEFAULT 0
+);
+
+CREATE TABLE expense_monthly_aggregates (
+    user_id             uuid        NOT NULL,
+    bucket_month        date        NOT NULL,
+    category            varchar(20) NOT NULL
+        CHECK (category IN ('GOODS', 'EVENT', 'STREAMING', 'GAME', 'BOOK', 'FOOD', 'ETC')),
+    satisfaction_rating integer     NOT NULL,
+    total_amount        bigint      NOT NULL,
+    display_amount      bigint      NOT NULL,
+    expense_count       bigint      NOT NULL,
+    PRIMARY KEY (user_id, bucket_month, category, satisfaction_rating)
+);
+
+CREATE TABLE user_sessions (
+    token_hash varchar(43)                 NOT NULL PRIMARY KEY,
+    user_id    uuid                        NOT NULL,
+    expires_at timestamp(6) with time zone NOT NULL
+);
+
+CREATE INDEX idx_user_sessions_expires_at ON user_sessions (expires_at);
+
+CREATE SEQUENCE expense_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE expense_outbox (
+    id             bigint            NOT NULL PRIMARY KEY,
+    user_id        uuid              NOT NULL,
+    type           varchar(20)       NOT NULL,
+    expense_id     bigint,
+    expense_count  integer           NOT NULL,
+    delta          clob              NOT NULL,
+    rollup_pending boolean           NOT NULL,
+    created_at     timestamp(6)      NOT NULL
+);
+
+CREATE INDEX idx_expense_outbox_user_id ON expense_outbox (user_id, id);
@@ -0,0 +1,70 @@
+-- 기준 스키마 이후 ddl-auto 없이 추가된 구성 (V2부터는 이 테이블들이 있다고 보고 변경함)
+
+-- id를 IDENTITY에서 50개 단위 시퀀스(pooled)로 전환
+-- Hibernate pooled 최적화는 nextval 값 N에서 (N-49 ~ N)을 쓰므로, 첫 nextval이 기존 최대 id + 50이 되게 맞춤
+ALTER TABLE expenses
+    ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS expenses_seq INCREMENT BY 50;
+
+SELECT setval('expenses_seq', COALESCE(MAX(id), 0) + 50, false) FROM expenses;
+
+-- 목록/커서 페이지/날짜 범위, 카테고리 별, 만족도 별 조회
+CREATE INDEX IF NOT EXISTS idx_expenses_user_date_id ON expenses (user_id, purchase_date, id);
+CREATE INDEX IF NOT EXISTS idx_expenses_user_category ON expenses (user_id, category);
+CREATE INDEX IF NOT EXISTS idx_expenses_user_rating ON expenses (user_id, satisfaction_rating);
+
+CREATE TABLE IF NOT EXISTS user_expense_summaries (
+    user_id         varchar(255) NOT NULL PRIMARY KEY,
+    total_amount    bigint       NOT NULL,
+    display_amount  bigint       NOT NULL,
+    satisfied_count bigint       NOT NULL,
+    total_count     bigint       NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS expense_monthly_aggregates (
+    user_id             varchar(255) NOT NULL,
+    bucket_month        date         NOT NULL,
+    category            varchar(20)  NOT NULL
+        CHECK (category IN ('GOODS', 'EVENT', 'STREAMING', 'GAME', 'BOOK', 'FOOD', 'ETC')),
+    satisfaction_rating integer      NOT NULL,
+    total_amount        bigint       NOT NULL,
+    display_amount      bigint       NOT NULL,
+    expense_count       bigint       NOT NULL,
+    PRIMARY KEY (user_id, bucket_month, category, satisfaction_rating)
+);
+
+CREATE TABLE IF NOT EXISTS user_sessions (
+    token_hash varchar(43)                 NOT NULL PRIMARY KEY,
+    user_id    varchar(255)                NOT NULL,
+    expires_at timestamp(6) with time zone NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_sessions_expires_at ON user_sessions (expires_at);
+
+-- 기존 지출로 통계 롤업을 채움 (비어 있으면 통계가 0으로 나옴)
+-- 만족 지출은 5점 기준 (ExpenseRepository.getStatisticsByUserId 와 동일)
+INSERT INTO user_expense_summaries (user_id, total_amount, display_amount, satisfied_count, total_count)
+SELECT user_id,
+       SUM(amount),
+       SUM(display_amount),
+       COUNT(*) FILTER (WHERE satisfaction_rating = 5),
+       COUNT(*)
+FROM expenses
+GROUP BY user_id
+ON CONFLICT (user_id) DO NOTHING;
+
+INSERT INTO expense_monthly_aggregates (user_id, bucket_month, category, satisfaction_rating,
+                                        total_amount, display_amount, expense_count)
+SELECT user_id,
+       date_trunc('month', purchase_date)::date,
+       category,
+       satisfaction_rating,
+       SUM(amount),
+       SUM(display_amount),
+       COUNT(*)
+FROM expenses
+GROUP BY user_id, date_trunc('month', purchase_date)::date, category, satisfaction_rating
+ON CONFLICT (user_id, bucket_month, category, satisfaction_rating) DO NOTHING;
+
+ANALYZE expenses;
@@ -0,0 +1,19 @@
+-- 기준 스키마: Flyway 도입 전 운영 DB 상태 (ddl-auto=update 로 만들어지던 expenses 테이블 하나)
+-- 빈 DB는 여기서부터 순서대로 적용하고,
+-- 이미 운영 중인 DB는 spring.flyway.baseline-on-migrate 로 이 버전을 적용된 것으로 기록한 뒤 V1_1부터 적용
+-- (이후 버전을 수동으로 적용해 둔 DB는 spring.flyway.baseline-version 을 마지막으로 적용한 버전으로 지정)
+
+CREATE TABLE IF NOT EXISTS expenses (
+    id                  bigint       GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id             varchar(255) NOT NULL,
+    amount              integer      NOT NULL,
+    display_amount      integer      NOT NULL,
+    category            varchar(255) NOT NULL
+        CHECK (category IN ('GOODS', 'EVENT', 'STREAMING', 'GAME', 'BOOK', 'FOOD', 'ETC')),
+    satisfaction_rating integer      NOT NULL,
+    is_satisfied        boolean      NOT NULL,
+    description         varchar(500),
+    purchase_date       date         NOT NULL,
+    created_at          timestamp(6) NOT NULL,
+    updated_at          timestamp(6)
+);
@@ -0,0 +1,18 @@
+-- 사용자 ID를 VARCHAR(255) 문자열에서 네이티브 uuid(16바이트)로 변경
+-- 기존 값은 UUID.randomUUID().toString() 으로 만든 36자 문자열이라 그대로 캐스팅된다
+-- 새로 발급되는 ID는 UUIDv7(시간 순) 이므로 인덱스 끝에 차곡차곡 쌓인다
+
+ALTER TABLE expenses
+    ALTER COLUMN user_id TYPE uuid USING user_id::uuid;
+
+ALTER TABLE IF EXISTS user_expense_summaries
+    ALTER COLUMN user_id TYPE uuid USING user_id::uuid;
+
+ALTER TABLE IF EXISTS expense_monthly_aggregates
+    ALTER COLUMN user_id TYPE uuid USING user_id::uuid;
+
+ALTER TABLE IF EXISTS user_sessions
+    ALTER COLUMN user_id TYPE uuid USING user_id::uuid;
+
+-- 타입 변경 후 인덱스가 재작성되므로 통계도 갱신
+ANALYZE expenses;
@@ -0,0 +1,4 @@
+-- 지출 낙관적 잠금 버전 (수정할 때마다 1 증가, ETag/If-Match로 사용)
+-- 기존 행은 0에서 시작 (PostgreSQL 11+ 은 상수 기본값 추가 시 테이블을 다시 쓰지 않음)
+ALTER TABLE expenses
+    ADD COLUMN version bigint NOT NULL DEFAULT 0;
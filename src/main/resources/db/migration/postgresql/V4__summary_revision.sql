@@ -0,0 +1,3 @@
+-- 사용자 지출 데이터 버전 (목록/통계 ETag, 304 응답에 사용)
+ALTER TABLE IF EXISTS user_expense_summaries
+    ADD COLUMN revision bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- 지출 변경 이벤트 (transactional outbox) - 처리 후 삭제되므로 대기 중인 이벤트만 남음
+CREATE SEQUENCE IF NOT EXISTS expense_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS expense_outbox (
+    id             bigint       NOT NULL PRIMARY KEY,
+    user_id        uuid         NOT NULL,
+    type           varchar(20)  NOT NULL,
+    expense_id     bigint,
+    expense_count  integer      NOT NULL,
+    delta          text         NOT NULL,
+    rollup_pending boolean      NOT NULL,
+    created_at     timestamp(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_expense_outbox_user_id ON expense_outbox (user_id, id);
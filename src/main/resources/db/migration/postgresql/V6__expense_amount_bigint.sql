@@ -0,0 +1,5 @@
+-- 지출 금액을 bigint(원 단위)로 확장 - 합계가 int 범위(약 21억 원)를 넘어도 SUM/롤업이 넘치지 않게 함
+-- integer -> bigint 는 테이블을 다시 쓰므로 (ACCESS EXCLUSIVE 잠금) 한 문장으로 두 컬럼을 같이 바꿈
+ALTER TABLE expenses
+    ALTER COLUMN amount TYPE bigint,
+    ALTER COLUMN display_amount TYPE bigint;
@@ -0,0 +1,35 @@
+-- 지출 테이블을 user_id 해시 파티션 16개로 전환
+-- 모든 조회/수정이 user_id 조건을 가지므로 (단건은 id + user_id) 파티션 하나만 읽고,
+-- 인덱스 재작성/VACUUM도 파티션 단위로 나뉨
+-- 파티션 테이블의 기본 키/유니크 인덱스에는 파티션 키가 들어가야 하므로 기본 키는 (id, user_id)
+-- id는 그대로 expenses_seq에서 받으므로 전체 파티션에서 고유함 (2차 캐시, API 경로는 id만 사용)
+-- 데이터를 새 테이블로 복사하는 동안 기존 테이블은 ACCESS EXCLUSIVE 잠금 (점검 시간에 실행)
+
+CREATE TABLE expenses_partitioned (
+    LIKE expenses INCLUDING DEFAULTS INCLUDING CONSTRAINTS
+) PARTITION BY HASH (user_id);
+
+DO $$
+BEGIN
+    FOR remainder IN 0..15 LOOP
+        EXECUTE format(
+            'CREATE TABLE expenses_p%s PARTITION OF expenses_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER %s)',
+            lpad(remainder::text, 2, '0'), remainder);
+    END LOOP;
+END
+$$;
+
+INSERT INTO expenses_partitioned SELECT * FROM expenses;
+
+-- 기존 테이블과 인덱스를 지우고 이름을 넘겨받음 (expenses_seq 시퀀스는 테이블 소유가 아니므로 유지됨)
+DROP TABLE expenses;
+ALTER TABLE expenses_partitioned RENAME TO expenses;
+
+ALTER TABLE expenses ADD CONSTRAINT expenses_pkey PRIMARY KEY (id, user_id);
+
+-- 부모에 만든 인덱스는 모든 파티션에 같은 구성으로 만들어짐
+CREATE INDEX idx_expenses_user_date_id ON expenses (user_id, purchase_date, id);
+CREATE INDEX idx_expenses_user_category ON expenses (user_id, category);
+CREATE INDEX idx_expenses_user_rating ON expenses (user_id, satisfaction_rating);
+
+ANALYZE expenses;
@@ -0,0 +1,74 @@
+package com.otaku.wallet.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertiesPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DevSettingsStartupCheckTest {
+
+    @Test
+    @DisplayName("기본 설정에서는 H2 콘솔, open-in-view 등이 경고 대상이고 SQL 출력은 꺼져 있다")
+    void defaultSettingsAreReported() throws IOException {
+        List<String> settings = DevSettingsStartupCheck.activeDevSettings(environment("application.properties"));
+
+        assertTrue(settings.stream().noneMatch(setting -> setting.startsWith("spring.jpa.show-sql")));
+        assertTrue(settings.stream().noneMatch(setting -> setting.startsWith("spring.jpa.properties.hibernate.format_sql")));
+        assertTrue(settings.contains("spring.h2.console.enabled=true"));
+        assertTrue(settings.contains("spring.jpa.open-in-view=true"));
+        assertTrue(settings.contains("otaku.datasource.pool.size-per-core=0"));
+    }
+
+    @Test
+    @DisplayName("prod 프로필은 운영 DB URL만 지정하면 경고할 설정이 없다")
+    void prodProfileDisablesDevSettings() throws IOException {
+        StandardEnvironment environment = environment("application-prod.properties", "application.properties");
+        environment.getPropertySources().addFirst(new MapPropertySource("database",
+                Map.of("spring.datasource.url", "jdbc:postgresql://db:5432/otaku_wallet")));
+
+        assertEquals(List.of(), DevSettingsStartupCheck.activeDevSettings(environment));
+    }
+
+    @Test
+    @DisplayName("dev 프로필은 SQL 출력을 켠다")
+    void devProfileEnablesSqlOutput() throws IOException {
+        List<String> settings = DevSettingsStartupCheck.activeDevSettings(
+                environment("application-dev.properties", "application.properties"));
+
+        assertTrue(settings.contains("spring.jpa.show-sql=true"));
+        assertTrue(settings.contains("spring.jpa.properties.hibernate.format_sql=true"));
+    }
+
+    @Test
+    @DisplayName("prod 프로필에 개발용 설정이 남아 있으면 기동에 실패한다")
+    void prodProfileRejectsDevSettings() throws IOException {
+        StandardEnvironment environment = environment("application-prod.properties", "application.properties");
+        environment.getPropertySources().addFirst(new MapPropertySource("override",
+                Map.of("spring.datasource.url", "jdbc:postgresql://db:5432/otaku_wallet",
+                        "spring.jpa.show-sql", "true")));
+        environment.setActiveProfiles("prod");
+
+        DevSettingsStartupCheck check = new DevSettingsStartupCheck(environment);
+        assertThrows(IllegalStateException.class, check::check);
+    }
+
+    // 앞의 파일이 우선 (프로필 파일이 기본 파일을 덮어쓰는 것과 같음)
+    private static StandardEnvironment environment(String... files) throws IOException {
+        StandardEnvironment environment = new StandardEnvironment();
+        for (String file : files) {
+            Properties properties = PropertiesLoaderUtils.loadProperties(new ClassPathResource(file));
+            environment.getPropertySources().addLast(new PropertiesPropertySource(file, properties));
+        }
+        return environment;
+    }
+}
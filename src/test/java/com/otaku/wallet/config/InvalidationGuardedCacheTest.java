@@ -0,0 +1,55 @@
+package com.otaku.wallet.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvalidationGuardedCacheTest {
+
+    private final ConcurrentMapCache store = new ConcurrentMapCache(CacheConfig.EXPENSE_LIST);
+    private final InvalidationGuardedCache cache = new InvalidationGuardedCache(store);
+
+    @Test
+    @DisplayName("미적중 후 조회 결과는 저장된다")
+    void putAfterMissIsStored() {
+        UUID userId = UUID.randomUUID();
+
+        assertNull(cache.get(userId));
+        cache.put(userId, List.of("new"));
+
+        assertEquals(List.of("new"), cache.get(userId).get());
+    }
+
+    @Test
+    @DisplayName("조회하는 사이 제거된 키에는 늦게 도착한 이전 조회 결과를 저장하지 않는다")
+    void putAfterConcurrentEvictIsDropped() throws InterruptedException {
+        UUID userId = UUID.randomUUID();
+
+        // given - 읽기 요청이 미적중 후 이전 값을 읽는 중
+        assertNull(cache.get(userId));
+
+        // when - 다른 스레드의 쓰기 커밋이 캐시를 비우고, 그 뒤에 읽기 요청의 (커밋 후로 미뤄진) 저장이 실행됨
+        Thread writer = new Thread(() -> cache.evict(userId));
+        writer.start();
+        writer.join();
+        cache.put(userId, List.of("stale"));
+
+        // then
+        assertNull(store.get(userId));
+    }
+
+    @Test
+    @DisplayName("미적중 기록 없이 들어온 저장은 무시한다")
+    void putWithoutMissIsDropped() {
+        UUID userId = UUID.randomUUID();
+
+        cache.put(userId, List.of("value"));
+
+        assertNull(store.get(userId));
+    }
+}
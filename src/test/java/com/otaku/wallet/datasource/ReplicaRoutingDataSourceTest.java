@@ -0,0 +1,194 @@
+package com.otaku.wallet.datasource;
+
+import com.otaku.wallet.config.ReplicaDataSourceProperties;
+import com.otaku.wallet.session.UserIds;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 서로 다른 H2 인메모리 DB 두 개를 primary/복제본으로 두고, 쿼리가 어느 쪽으로 가는지 확인
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String REPLICA = "replica-0";
+
+    private HikariDataSource primary;
+    private ReplicaRoutingDataSource routingDataSource;
+    private ReplicaDataSourceProperties properties;
+    private ReplicaLagMonitor lagMonitor;
+    private ReadYourWritesTracker writesTracker;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReplicaDataSourceProperties(true, List.of(),
+                Duration.ofSeconds(5), Duration.ofSeconds(1), "SELECT lag_ms FROM replica_lag");
+        writesTracker = new ReadYourWritesTracker(properties);
+
+        primary = h2("routing-primary-" + UUID.randomUUID());
+        HikariDataSource replica = h2("routing-replica-" + UUID.randomUUID());
+        new JdbcTemplate(primary).execute("CREATE TABLE node AS SELECT 'primary' AS name");
+        new JdbcTemplate(replica).execute("CREATE TABLE node AS SELECT 'replica' AS name");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag AS SELECT 0 AS lag_ms");
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, Map.of(REPLICA, replica), writesTracker);
+        routingDataSource.afterPropertiesSet();
+        lagMonitor = new ReplicaLagMonitor(routingDataSource, properties, new SimpleMeterRegistry());
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        routingDataSource.destroy();
+        primary.close();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 복제본, 쓰기 트랜잭션은 primary로 간다")
+    void routesByTransactionReadOnly() {
+        assertEquals("replica", readTransaction.execute(status -> currentNode()));
+        assertEquals("primary", writeTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("방금 지출을 변경한 사용자의 읽기는 잠시 primary로 간다")
+    void stickToPrimaryAfterOwnWrite() {
+        // given - 요청에서 확인된 사용자
+        UUID writer = UserIds.next();
+        bindCurrentUser(writer);
+        assertEquals("replica", readTransaction.execute(status -> currentNode()));
+
+        // when - 변경이 커밋됨
+        writeTransaction.executeWithoutResult(status -> writesTracker.recordWrite(writer));
+
+        // then - 본인 읽기는 primary, 다른 사용자는 그대로 복제본
+        assertEquals("primary", readTransaction.execute(status -> currentNode()));
+        bindCurrentUser(UserIds.next());
+        assertEquals("replica", readTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 변경한 사용자도 마지막 변경 쿠키가 있으면 primary로 읽는다")
+    void stickToPrimaryWithLastWriteCookieFromOtherNode() {
+        // given - 다른 노드에서 변경이 커밋되고 쿠키가 내려감
+        UUID writer = UserIds.next();
+        ReadYourWritesTracker otherNode = new ReadYourWritesTracker(properties);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+        writeTransaction.executeWithoutResult(status -> otherNode.recordWrite(writer));
+        String setCookie = response.getHeader(HttpHeaders.SET_COOKIE);
+        assertNotNull(setCookie);
+        assertTrue(setCookie.startsWith(ReadYourWritesTracker.LAST_WRITE_COOKIE + "="));
+
+        // when - 다음 요청은 이 노드로 옴 (메모리 기록 없음)
+        assertFalse(writesTracker.isRecentWriter(writer));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(ReadYourWritesTracker.USER_ID_ATTRIBUTE, writer);
+        String value = setCookie.substring(setCookie.indexOf('=') + 1, setCookie.indexOf(';'));
+        request.setCookies(new Cookie(ReadYourWritesTracker.LAST_WRITE_COOKIE, value));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // then
+        assertEquals("primary", readTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("고정 시간이 지난 마지막 변경 쿠키는 무시한다")
+    void ignoreExpiredLastWriteCookie() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(ReadYourWritesTracker.USER_ID_ATTRIBUTE, UserIds.next());
+        long committedAt = System.currentTimeMillis() - properties.stickiness().toMillis() - 1000;
+        request.setCookies(new Cookie(ReadYourWritesTracker.LAST_WRITE_COOKIE, Long.toString(committedAt)));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertEquals("replica", readTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 primary로 읽고, 따라잡으면 다시 복제본으로 읽는다")
+    void fallBackToPrimaryWhileReplicaLags() {
+        // given - 복제본 지연 3초 (허용치 1초)
+        setReplicaLag(3000);
+
+        // when
+        lagMonitor.check();
+
+        // then
+        assertFalse(routingDataSource.isAvailable(REPLICA));
+        assertEquals("primary", readTransaction.execute(status -> currentNode()));
+
+        // 따라잡음
+        setReplicaLag(0);
+        lagMonitor.check();
+        assertTrue(routingDataSource.isAvailable(REPLICA));
+        assertEquals("replica", readTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("지연 조회에 실패한 복제본은 제외된다")
+    void excludeReplicaWhenLagCheckFails() {
+        // given - 지연 조회 테이블이 없어짐
+        new JdbcTemplate(routingDataSource.getReplicas().get(REPLICA)).execute("DROP TABLE replica_lag");
+
+        // when
+        lagMonitor.check();
+
+        // then
+        assertFalse(routingDataSource.isAvailable(REPLICA));
+        assertEquals("primary", readTransaction.execute(status -> currentNode()));
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private void setReplicaLag(long lagMillis) {
+        new JdbcTemplate(routingDataSource.getReplicas().get(REPLICA))
+                .update("UPDATE replica_lag SET lag_ms = ?", lagMillis);
+    }
+
+    private static void bindCurrentUser(UUID userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(ReadYourWritesTracker.USER_ID_ATTRIBUTE, userId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static HikariDataSource h2(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name);
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
@@ -0,0 +1,61 @@
+package com.otaku.wallet.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpenseDeltaConverterTest {
+
+    private final ExpenseDeltaConverter converter = new ExpenseDeltaConverter();
+
+    @Test
+    @DisplayName("저장했다 읽은 변경분은 합계와 월별 구간이 같다")
+    void roundTrip() {
+        // given - 4점 → 5점 수정 + 다른 달 등록
+        ExpenseDelta delta = ExpenseDelta.between(
+                new ExpenseSnapshot(50000, 50000, false, ExpenseCategory.GOODS, 4, LocalDate.of(2024, 12, 25)),
+                new ExpenseSnapshot(50000, 0, true, ExpenseCategory.GOODS, 5, LocalDate.of(2024, 12, 25)));
+        delta.add(new ExpenseSnapshot(12000, 12000, false, ExpenseCategory.FOOD, 3, LocalDate.of(2025, 1, 3)));
+
+        // when
+        ExpenseDelta restored = converter.convertToEntityAttribute(converter.convertToDatabaseColumn(delta));
+
+        // then
+        assertEquals(12000, restored.getTotalAmount());
+        assertEquals(-38000, restored.getDisplayAmount());
+        assertEquals(1, restored.getSatisfiedCount());
+        assertEquals(1, restored.getTotalCount());
+        assertEquals(buckets(delta), buckets(restored));
+        assertEquals(3, buckets(restored).size());
+    }
+
+    @Test
+    @DisplayName("여러 변경분을 더하면 서로 상쇄된 구간은 반영 대상에서 빠진다")
+    void plusCancelsOut() {
+        // given
+        ExpenseSnapshot snapshot = new ExpenseSnapshot(8000, 8000, false, ExpenseCategory.BOOK, 4, LocalDate.of(2025, 2, 1));
+        ExpenseDelta created = ExpenseDelta.between(null, snapshot);
+        ExpenseDelta deleted = ExpenseDelta.between(snapshot, null);
+
+        // when
+        ExpenseDelta merged = new ExpenseDelta().plus(created).plus(deleted);
+
+        // then
+        assertTrue(merged.isEmpty());
+        assertTrue(buckets(merged).isEmpty());
+    }
+
+    // 구간별 (실제 금액, 표시 금액, 개수)
+    private static Map<ExpenseBucket, List<Long>> buckets(ExpenseDelta delta) {
+        Map<ExpenseBucket, List<Long>> buckets = new HashMap<>();
+        delta.forEachBucket((bucket, totals) -> buckets.put(bucket,
+                List.of(totals.getTotalAmount(), totals.getDisplayAmount(), totals.getExpenseCount())));
+        return buckets;
+    }
+}
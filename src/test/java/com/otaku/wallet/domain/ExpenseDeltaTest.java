@@ -0,0 +1,94 @@
+package com.otaku.wallet.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 무작위 지출 목록으로 변경분 합계 성질을 확인 (시드 고정이라 실패해도 같은 입력으로 재현됨)
+ */
+class ExpenseDeltaTest {
+
+    // 건당 최대 금액 - int 범위를 넘는 금액도 섞음
+    private static final long MAX_AMOUNT = 4L * Integer.MAX_VALUE;
+
+    static LongStream seeds() {
+        return LongStream.range(0, 50);
+    }
+
+    @ParameterizedTest(name = "seed={0}")
+    @MethodSource("seeds")
+    @DisplayName("등록 변경분의 합계는 금액을 정확히 더한 값과 같다")
+    void totalsMatchExactSum(long seed) {
+        // given
+        List<ExpenseSnapshot> snapshots = randomSnapshots(new Random(seed));
+        BigInteger expectedTotal = BigInteger.ZERO;
+        BigInteger expectedDisplay = BigInteger.ZERO;
+        for (ExpenseSnapshot snapshot : snapshots) {
+            expectedTotal = expectedTotal.add(BigInteger.valueOf(snapshot.amount()));
+            expectedDisplay = expectedDisplay.add(BigInteger.valueOf(snapshot.displayAmount()));
+        }
+
+        // when
+        ExpenseDelta delta = new ExpenseDelta();
+        snapshots.forEach(delta::add);
+
+        // then - 구간별 합계를 다시 더해도 전체 합계와 같음
+        assertEquals(expectedTotal.longValueExact(), delta.getTotalAmount());
+        assertEquals(expectedDisplay.longValueExact(), delta.getDisplayAmount());
+        assertEquals(snapshots.size(), delta.getTotalCount());
+
+        long[] bucketSums = new long[3];
+        delta.forEachBucket((bucket, totals) -> {
+            bucketSums[0] += totals.getTotalAmount();
+            bucketSums[1] += totals.getDisplayAmount();
+            bucketSums[2] += totals.getExpenseCount();
+        });
+        assertArrayEquals(new long[]{delta.getTotalAmount(), delta.getDisplayAmount(), delta.getTotalCount()},
+                bucketSums);
+    }
+
+    @ParameterizedTest(name = "seed={0}")
+    @MethodSource("seeds")
+    @DisplayName("같은 지출을 다른 순서로 모두 삭제하면 변경분이 0이 된다")
+    void createThenDeleteCancelsOut(long seed) {
+        // given
+        Random random = new Random(seed);
+        List<ExpenseSnapshot> snapshots = randomSnapshots(random);
+        ExpenseDelta created = new ExpenseDelta();
+        snapshots.forEach(created::add);
+
+        // when - 삭제는 이벤트 단위 변경분을 모아서 더함 (outbox 처리와 같은 방식)
+        List<ExpenseSnapshot> shuffled = new ArrayList<>(snapshots);
+        Collections.shuffle(shuffled, random);
+        ExpenseDelta merged = new ExpenseDelta().plus(created);
+        shuffled.forEach(snapshot -> merged.plus(ExpenseDelta.between(snapshot, null)));
+
+        // then
+        assertTrue(merged.isEmpty());
+    }
+
+    private static List<ExpenseSnapshot> randomSnapshots(Random random) {
+        ExpenseCategory[] categories = ExpenseCategory.values();
+        int size = 1 + random.nextInt(500);
+        List<ExpenseSnapshot> snapshots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long amount = 1 + (long) (random.nextDouble() * MAX_AMOUNT);
+            int rating = 1 + random.nextInt(5);
+            LocalDate purchaseDate = LocalDate.of(2020, 1, 1).plusDays(random.nextInt(365 * 5));
+            snapshots.add(new ExpenseSnapshot(amount, rating == 5 ? 0 : amount, rating == 5,
+                    categories[random.nextInt(categories.length)], rating, purchaseDate));
+        }
+        return snapshots;
+    }
+}
@@ -0,0 +1,74 @@
+package com.otaku.wallet.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.otaku.wallet.domain.ExpenseCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpenseResponseSerializerTest {
+
+    // 기본 BeanSerializer (리플렉션)
+    private final ObjectMapper reflective = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper dedicated = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new SimpleModule().addSerializer(ExpenseDto.Response.class, new ExpenseResponseSerializer()))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    @DisplayName("기본 직렬화와 같은 JSON을 만든다 (날짜 직접 기록 포함)")
+    void writesSameJsonAsBeanSerializer() throws Exception {
+        // given
+        List<ExpenseDto.Response> expenses = List.of(
+                new ExpenseDto.Response(1L, 50000, 0, ExpenseCategory.GOODS, "🎁", 5, true,
+                        "한정판 \"피규어\"", LocalDate.of(2024, 12, 25),
+                        LocalDateTime.of(2024, 12, 25, 10, 0), LocalDateTime.of(2024, 12, 26, 9, 30, 15, 500), 2L),
+                new ExpenseDto.Response(2L, 12000, 12000, ExpenseCategory.FOOD, "🍜", 3, false,
+                        null, LocalDate.of(2025, 1, 3), null, null, 0L),
+                new ExpenseDto.Response(3L, 7000, 7000, ExpenseCategory.BOOK, "📚", 4, false,
+                        "줄바꿈\n설명", LocalDate.of(999, 2, 3),
+                        LocalDateTime.of(2025, 3, 4, 0, 0, 0, 120_000_000), LocalDateTime.of(12025, 1, 1, 0, 0), 7L)
+        );
+
+        // when
+        JsonNode expected = reflective.readTree(reflective.writeValueAsString(expenses));
+        JsonNode actual = dedicated.readTree(dedicated.writeValueAsString(expenses));
+
+        // then
+        assertEquals(expected, actual);
+        assertEquals("GOODS", actual.get(0).get("category").asText());
+        assertEquals("2024-12-25", actual.get(0).get("purchaseDate").asText());
+        assertTrue(actual.get(1).get("description").isNull());
+        assertEquals("2024-12-26T09:30:15.0000005", actual.get(0).get("updatedAt").asText());
+    }
+
+    @Test
+    @DisplayName("날짜를 타임스탬프로 쓰도록 설정하면 등록된 직렬화기를 따른다")
+    void followsTimestampSetting() throws Exception {
+        // given
+        ObjectMapper timestamps = dedicated.copy().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ExpenseDto.Response expense = new ExpenseDto.Response(1L, 1000, 1000, ExpenseCategory.ETC, "💰", 1, false,
+                null, LocalDate.of(2024, 5, 1), null, null, 0L);
+
+        // when
+        JsonNode json = timestamps.readTree(timestamps.writeValueAsString(expense));
+
+        // then
+        assertTrue(json.get("purchaseDate").isArray());
+    }
+}
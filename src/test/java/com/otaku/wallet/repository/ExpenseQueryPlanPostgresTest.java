@@ -0,0 +1,38 @@
+package com.otaku.wallet.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+// PostgreSQL 실행 계획 확인 (OTAKU_PG_URL 환경 변수가 있을 때만 실행)
+// 예) OTAKU_PG_URL=jdbc:postgresql://localhost:5432/otaku OTAKU_PG_USER=otaku OTAKU_PG_PASSWORD=otaku
+@SpringBootTest
+@Import(SqlCapture.class)
+@Transactional
+@EnabledIfEnvironmentVariable(named = "OTAKU_PG_URL", matches = ".+")
+class ExpenseQueryPlanPostgresTest extends ExpenseQueryPlanTestSupport {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("OTAKU_PG_URL"));
+        registry.add("spring.datasource.username", () -> System.getenv("OTAKU_PG_USER"));
+        registry.add("spring.datasource.password", () -> System.getenv("OTAKU_PG_PASSWORD"));
+        registry.add("spring.datasource.driverClassName", () -> "org.postgresql.Driver");
+    }
+
+    @BeforeEach
+    void disableSeqScan() {
+        // 테스트 테이블은 작아서 플래너가 항상 Seq Scan을 고름
+        // Seq Scan을 끈 상태에서도 Seq Scan이 나오면 쓸 수 있는 인덱스가 없다는 뜻
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+    }
+
+    @Override
+    protected boolean isFullScan(String plan) {
+        return plan.contains("Seq Scan");
+    }
+}
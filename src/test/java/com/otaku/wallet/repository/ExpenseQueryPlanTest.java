@@ -0,0 +1,16 @@
+package com.otaku.wallet.repository;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+// H2 실행 계획 확인 (항상 실행)
+@DataJpaTest
+@Import(SqlCapture.class)
+class ExpenseQueryPlanTest extends ExpenseQueryPlanTestSupport {
+
+    @Override
+    protected boolean isFullScan(String plan) {
+        // 인덱스를 못 타면 "/* PUBLIC.EXPENSES.tableScan */" 로 표시됨
+        return plan.contains("tableScan");
+    }
+}
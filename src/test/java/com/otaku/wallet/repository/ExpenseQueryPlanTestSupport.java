@@ -0,0 +1,133 @@
+package com.otaku.wallet.repository;
+
+import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.dto.ExpenseSearchCondition;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// 리포지토리 메서드를 실제로 호출해 Hibernate가 만든 SQL을 기록(SqlCapture)하고,
+// 같은 바인딩 값으로 EXPLAIN 해서 풀 스캔으로 떨어지지 않는지 확인
+// 하위 클래스는 @Import(SqlCapture.class) 필요
+// 테스트 메서드가 이 클래스에 선언되어 있어 하위 클래스(@DataJpaTest)의 @Transactional이 적용되지 않으므로 여기에도 선언
+@Transactional
+abstract class ExpenseQueryPlanTestSupport {
+
+    private static final UUID USER = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final LocalDate FROM = LocalDate.of(2024, 12, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+
+    @Autowired
+    protected EntityManager entityManager;
+
+    @Autowired
+    protected DataSource dataSource;
+
+    @Autowired
+    protected ExpenseRepository expenses;
+
+    @Autowired
+    protected ExpenseMonthlyAggregateRepository aggregates;
+
+    @Autowired
+    protected UserExpenseSummaryRepository summaries;
+
+    @FunctionalInterface
+    interface Finder {
+        void call(ExpenseQueryPlanTestSupport repositories);
+    }
+
+    static Stream<Arguments> finders() {
+        return Stream.of(
+                finder("findByUserId", r -> r.expenses.findByUserId(USER)),
+                finder("findByIdAndUserId", r -> r.expenses.findByIdAndUserId(1L, USER)),
+                finder("findByUserIdAndCategory", r -> r.expenses.findByUserIdAndCategory(USER, ExpenseCategory.GOODS)),
+                finder("findByUserIdAndSatisfactionRating", r -> r.expenses.findByUserIdAndSatisfactionRating(USER, 5)),
+                finder("findByUserIdAndPurchaseDateBetween",
+                        r -> r.expenses.findByUserIdAndPurchaseDateBetween(USER, FROM, TO)),
+                finder("findByUserIdOrderByPurchaseDateDesc", r -> r.expenses.findByUserIdOrderByPurchaseDateDesc(USER)),
+                finder("findAllByIdInAndUserId", r -> r.expenses.findAllByIdInAndUserId(List.of(1L, 2L, 3L), USER)),
+                finder("findListByUserId", r -> r.expenses.findListByUserId(USER)),
+                finder("findListByUserIdAndCategory",
+                        r -> r.expenses.findListByUserIdAndCategory(USER, ExpenseCategory.GOODS)),
+                finder("findListByUserIdAndSatisfactionRating",
+                        r -> r.expenses.findListByUserIdAndSatisfactionRating(USER, 5)),
+                finder("findFirstPageByUserId", r -> r.expenses.findFirstPageByUserId(USER, PageRequest.ofSize(21))),
+                finder("findPageByUserIdAfter",
+                        r -> r.expenses.findPageByUserIdAfter(USER, LocalDate.of(2024, 12, 20), 100L, PageRequest.ofSize(21))),
+                finder("streamByUserId", r -> {
+                    try (Stream<?> stream = r.expenses.streamByUserId(USER)) {
+                        stream.count();
+                    }
+                }),
+                finder("countByUserIdAndSatisfactionRating", r -> r.expenses.countByUserIdAndSatisfactionRating(USER, 5)),
+                finder("countByUserId", r -> r.expenses.countByUserId(USER)),
+                finder("getStatisticsByUserId", r -> r.expenses.getStatisticsByUserId(USER)),
+                finder("search", r -> r.expenses.findAll(
+                        ExpenseSpecifications.search(USER, new ExpenseSearchCondition(
+                                List.of(ExpenseCategory.GOODS, ExpenseCategory.GAME), 3, 5, FROM, TO, 1000L, 50000L)),
+                        PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "amount", "id")))),
+                finder("sumByPurchaseDate", r -> r.expenses.sumByPurchaseDate(USER, FROM, TO)),
+                finder("sumByBucket", r -> r.expenses.sumByBucket(USER)),
+                finder("aggregates.sumByMonth", r -> r.aggregates.sumByMonth(USER, FROM, TO)),
+                finder("aggregates.sumByCategory", r -> r.aggregates.sumByCategory(USER, FROM, TO)),
+                finder("aggregates.sumByRating", r -> r.aggregates.sumByRating(USER, FROM, TO)),
+                finder("summaries.findRevision", r -> r.summaries.findRevision(USER))
+        );
+    }
+
+    private static Arguments finder(String name, Finder finder) {
+        return Arguments.of(name, finder);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("finders")
+    void finderUsesIndex(String name, Finder finder) throws SQLException {
+        List<SqlCapture.CapturedQuery> queries = SqlCapture.capture(() -> finder.call(this));
+
+        assertFalse(queries.isEmpty(), name + " 가 SQL을 실행하지 않았습니다");
+        for (SqlCapture.CapturedQuery query : queries) {
+            String plan = explain(query);
+
+            System.out.println("\n=== " + name + " ===\n" + query.sql() + "\n" + plan);
+            assertFalse(isFullScan(plan), name + " 가 풀 스캔으로 실행됩니다:\n" + query.sql() + "\n" + plan);
+        }
+    }
+
+    // 기록한 SQL을 같은 바인딩 값으로 EXPLAIN (트랜잭션의 커넥션 사용), 결과 행을 줄 단위로 합침
+    private String explain(SqlCapture.CapturedQuery query) throws SQLException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement statement = query.prepare(connection, "EXPLAIN ");
+             ResultSet resultSet = statement.executeQuery()) {
+            StringJoiner plan = new StringJoiner("\n");
+            while (resultSet.next()) {
+                plan.add(resultSet.getString(1));
+            }
+            return plan.toString();
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    // DB별 풀 스캔 표시 여부
+    protected abstract boolean isFullScan(String plan);
+}
@@ -3,13 +3,19 @@ package com.otaku.wallet.repository;
 
 import com.otaku.wallet.domain.Expense;
 import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.dto.ExpenseDto;
+import com.otaku.wallet.session.UserIds;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -22,8 +28,11 @@ public class ExpenseRepositoryTest {
     @Autowired
     private ExpenseRepository repository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     // 테스트용 고정 userId
-    private static final String TEST_USER_ID = "test-user-123";
+    private static final UUID TEST_USER_ID = UserIds.next();
 
     // 5점 적용 잘 되나? <0원 확인. isSat~ true인지 확인. id not null인지>
     @Test
@@ -32,7 +41,7 @@ public class ExpenseRepositoryTest {
         // given <예시 entity 생성>
         Expense expense = Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(50000)
+                .amount(50000L)
                 .category(ExpenseCategory.GOODS)
                 .description("최애 피규어")
                 .satisfactionRating(5)
@@ -58,7 +67,7 @@ public class ExpenseRepositoryTest {
         // given
         Expense expense = Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(35000)
+                .amount(35000L)
                 .category(ExpenseCategory.EVENT)
                 .description("팬미팅")
                 .satisfactionRating(4)
@@ -80,7 +89,7 @@ public class ExpenseRepositoryTest {
         // given
         Expense expense = Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(20000)
+                .amount(20000L)
                 .category(ExpenseCategory.BOOK)
                 .satisfactionRating(3)
                 .purchaseDate(LocalDate.now())
@@ -99,17 +108,17 @@ public class ExpenseRepositoryTest {
         // given
         repository.save(Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(50000).category(ExpenseCategory.GOODS)
+                .amount(50000L).category(ExpenseCategory.GOODS)
                 .satisfactionRating(5).purchaseDate(LocalDate.now()).build());
 
         repository.save(Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(30000).category(ExpenseCategory.GOODS)
+                .amount(30000L).category(ExpenseCategory.GOODS)
                 .satisfactionRating(4).purchaseDate(LocalDate.now()).build());
 
         repository.save(Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(40000).category(ExpenseCategory.EVENT)
+                .amount(40000L).category(ExpenseCategory.EVENT)
                 .satisfactionRating(5).purchaseDate(LocalDate.now()).build());
 
         // when
@@ -130,17 +139,17 @@ public class ExpenseRepositoryTest {
         // given
         repository.save(Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(50000).category(ExpenseCategory.GOODS)
+                .amount(50000L).category(ExpenseCategory.GOODS)
                 .satisfactionRating(5).purchaseDate(LocalDate.now()).build());
 
         repository.save(Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(30000).category(ExpenseCategory.GOODS)
+                .amount(30000L).category(ExpenseCategory.GOODS)
                 .satisfactionRating(4).purchaseDate(LocalDate.now()).build());
 
         repository.save(Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(40000).category(ExpenseCategory.EVENT)
+                .amount(40000L).category(ExpenseCategory.EVENT)
                 .satisfactionRating(5).purchaseDate(LocalDate.now()).build());
 
 
@@ -157,6 +166,41 @@ public class ExpenseRepositoryTest {
 
     }
 
+    @Test
+    @DisplayName("목록 프로젝션은 엔티티를 올리지 않고 화면에 쓰는 값만 채운다")
+    void findListProjection() {
+
+        // given
+        Expense saved = repository.save(Expense.builder()
+                .userId(TEST_USER_ID)
+                .amount(50000L).category(ExpenseCategory.GOODS).description("최애 피규어")
+                .satisfactionRating(5).purchaseDate(LocalDate.of(2024, 12, 25)).build());
+
+        repository.save(Expense.builder()
+                .userId(TEST_USER_ID)
+                .amount(30000L).category(ExpenseCategory.EVENT)
+                .satisfactionRating(4).purchaseDate(LocalDate.now()).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<ExpenseDto.Response> goods = repository.findListByUserIdAndCategory(TEST_USER_ID, ExpenseCategory.GOODS);
+
+        // then
+        assertEquals(1, goods.size());
+        ExpenseDto.Response view = goods.get(0);
+        assertEquals(saved.getId(), view.getId());
+        assertEquals(0, view.getDisplayAmount());
+        assertEquals(ExpenseCategory.GOODS.getEmoji(), view.getCategoryEmoji());
+        assertEquals("최애 피규어", view.getDescription());
+        assertEquals(LocalDate.of(2024, 12, 25), view.getPurchaseDate());
+        assertEquals(2, repository.findListByUserId(TEST_USER_ID).size());
+        assertEquals(1, repository.findListByUserIdAndSatisfactionRating(TEST_USER_ID, 5).size());
+        // 프로젝션 조회는 영속성 컨텍스트에 엔티티를 올리지 않음
+        assertEquals(0, entityManager.unwrap(SessionImplementor.class)
+                .getPersistenceContext().getNumberOfManagedEntities());
+    }
+
     @Test
     @DisplayName("실제 총액과 표시 총액 계산")
     void getTotalAmounts() {
@@ -164,31 +208,31 @@ public class ExpenseRepositoryTest {
         // given
         repository.save(Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(50000).category(ExpenseCategory.GOODS)
+                .amount(50000L).category(ExpenseCategory.GOODS)
                 .satisfactionRating(5).purchaseDate(LocalDate.now()).build());
         // -> 0원
 
         repository.save(Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(30000).category(ExpenseCategory.GOODS)
+                .amount(30000L).category(ExpenseCategory.GOODS)
                 .satisfactionRating(4).purchaseDate(LocalDate.now()).build());
         // -> 30000원
 
         repository.save(Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(40000).category(ExpenseCategory.EVENT)
+                .amount(40000L).category(ExpenseCategory.EVENT)
                 .satisfactionRating(2).purchaseDate(LocalDate.now()).build());
         // -> 40000원
 
         // when
-        Integer totalAmount = repository.getTotalAmountByUserId(TEST_USER_ID);
-        Integer displayAmount = repository.getTotalDisplayAmountByUserId(TEST_USER_ID);
+        Long totalAmount = repository.getTotalAmountByUserId(TEST_USER_ID);
+        Long displayAmount = repository.getTotalDisplayAmountByUserId(TEST_USER_ID);
 
         // then
         assertEquals(120000, totalAmount);
         assertEquals(70000, displayAmount);
 
-        Integer savedAmount = totalAmount - displayAmount;
+        Long savedAmount = totalAmount - displayAmount;
         assertEquals(50000, savedAmount);
 
         System.out.println("\n=== 통계 ===");
@@ -203,21 +247,21 @@ public class ExpenseRepositoryTest {
         // given
         repository.save(Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(10000).category(ExpenseCategory.GOODS)
+                .amount(10000L).category(ExpenseCategory.GOODS)
                 .satisfactionRating(3)
                 .purchaseDate(LocalDate.of(2024, 12, 15))
                 .build());
 
         repository.save(Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(20000).category(ExpenseCategory.EVENT)
+                .amount(20000L).category(ExpenseCategory.EVENT)
                 .satisfactionRating(4)
                 .purchaseDate(LocalDate.of(2024, 12, 20))
                 .build());
 
         repository.save(Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(30000).category(ExpenseCategory.STREAMING)
+                .amount(30000L).category(ExpenseCategory.STREAMING)
                 .satisfactionRating(5)
                 .purchaseDate(LocalDate.of(2024, 12, 25))
                 .build());
@@ -239,21 +283,21 @@ public class ExpenseRepositoryTest {
         // given
         repository.save(Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(10000).category(ExpenseCategory.GOODS)
+                .amount(10000L).category(ExpenseCategory.GOODS)
                 .satisfactionRating(3)
                 .purchaseDate(LocalDate.of(2024, 12, 1))
                 .build());
 
         repository.save(Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(20000).category(ExpenseCategory.EVENT)
+                .amount(20000L).category(ExpenseCategory.EVENT)
                 .satisfactionRating(4)
                 .purchaseDate(LocalDate.of(2024, 12, 15))
                 .build());
 
         repository.save(Expense.builder()
                 .userId(TEST_USER_ID)
-                .amount(30000).category(ExpenseCategory.STREAMING)
+                .amount(30000L).category(ExpenseCategory.STREAMING)
                 .satisfactionRating(5)
                 .purchaseDate(LocalDate.of(2024, 12, 20))
                 .build());
@@ -268,4 +312,42 @@ public class ExpenseRepositoryTest {
 
     }
 
+    @Test
+    @DisplayName("커서 기반 페이지 조회 - 같은 날짜는 id 역순")
+    void findPageByKeyset() {
+        // given
+        Expense first = repository.save(Expense.builder()
+                .userId(TEST_USER_ID)
+                .amount(10000L).category(ExpenseCategory.GOODS)
+                .satisfactionRating(3)
+                .purchaseDate(LocalDate.of(2024, 12, 20))
+                .build());
+
+        Expense second = repository.save(Expense.builder()
+                .userId(TEST_USER_ID)
+                .amount(20000L).category(ExpenseCategory.EVENT)
+                .satisfactionRating(4)
+                .purchaseDate(LocalDate.of(2024, 12, 20))
+                .build());
+
+        Expense oldest = repository.save(Expense.builder()
+                .userId(TEST_USER_ID)
+                .amount(30000L).category(ExpenseCategory.STREAMING)
+                .satisfactionRating(5)
+                .purchaseDate(LocalDate.of(2024, 12, 1))
+                .build());
+
+        // when
+        List<Expense> firstPage = repository.findFirstPageByUserId(TEST_USER_ID, PageRequest.ofSize(2));
+        Expense last = firstPage.get(firstPage.size() - 1);
+        List<Expense> nextPage = repository.findPageByUserIdAfter(
+                TEST_USER_ID, last.getPurchaseDate(), last.getId(), PageRequest.ofSize(2));
+
+        // then
+        assertEquals(List.of(second.getId(), first.getId()),
+                firstPage.stream().map(Expense::getId).toList());
+        assertEquals(List.of(oldest.getId()),
+                nextPage.stream().map(Expense::getId).toList());
+    }
+
 }
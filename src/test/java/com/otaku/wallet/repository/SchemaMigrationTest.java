@@ -0,0 +1,44 @@
+package com.otaku.wallet.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 스키마는 Flyway 마이그레이션으로만 만들어지고, 엔티티 매핑은 부팅 시 검증(ddl-auto=validate)만 함
+@DataJpaTest
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("부팅 시 모든 마이그레이션이 적용되어 대기 중인 버전이 없다")
+    void allMigrationsApplied() {
+        MigrationInfo[] pending = flyway.info().pending();
+        MigrationInfo current = flyway.info().current();
+
+        assertEquals(0, pending.length);
+        assertNotNull(current);
+        assertTrue(current.getState().isApplied());
+    }
+
+    @Test
+    @DisplayName("마이그레이션의 제약 조건이 잘못된 지출 행을 막는다")
+    void migrationConstraintsRejectInvalidRows() {
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "INSERT INTO expenses (id, user_id, amount, display_amount, category, satisfaction_rating, " +
+                        "is_satisfied, purchase_date, created_at, version) " +
+                        "VALUES (NEXT VALUE FOR expenses_seq, RANDOM_UUID(), 1000, 1000, 'UNKNOWN', 3, " +
+                        "FALSE, CURRENT_DATE, CURRENT_TIMESTAMP, 0)"));
+    }
+}
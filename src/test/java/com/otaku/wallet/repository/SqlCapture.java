@@ -0,0 +1,136 @@
+package com.otaku.wallet.repository;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 테스트용 DataSource 래퍼 - capture() 안에서 실행된 SQL과 바인딩 값을 그대로 기록
+ * 리포지토리 메서드가 실제로 만든 SQL을 같은 파라미터로 다시 준비(EXPLAIN 등)할 수 있음
+ */
+class SqlCapture implements BeanPostProcessor {
+
+    private static final ThreadLocal<List<CapturedQuery>> RECORDING = new ThreadLocal<>();
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+
+    /**
+     * 실행된 SQL 한 문장과 바인딩 값
+     */
+    record CapturedQuery(String sql, List<Binding> bindings) {
+
+        // prefix + SQL로 문장을 준비하고 같은 값을 바인딩 (예: "EXPLAIN ")
+        PreparedStatement prepare(Connection connection, String prefix) throws SQLException {
+            PreparedStatement statement = connection.prepareStatement(prefix + sql);
+            for (Binding binding : bindings) {
+                binding.apply(statement);
+            }
+            return statement;
+        }
+    }
+
+    /**
+     * PreparedStatement.setXxx(index, ...) 호출 하나
+     */
+    record Binding(Method setter, Object[] args) {
+
+        void apply(PreparedStatement statement) throws SQLException {
+            try {
+                setter.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드에서 action이 실행한 SQL 목록
+     */
+    static List<CapturedQuery> capture(Runnable action) {
+        List<CapturedQuery> queries = new ArrayList<>();
+        RECORDING.set(queries);
+        try {
+            action.run();
+        } finally {
+            RECORDING.remove();
+        }
+        return queries;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return recording(super.getConnection());
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return recording(super.getConnection(username, password));
+                }
+            };
+        }
+        return bean;
+    }
+
+    private static Connection recording(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                return recording(statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement recording(PreparedStatement statement, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bindings.add(new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if (EXECUTE_METHODS.contains(name) && (args == null || args.length == 0)
+                    && RECORDING.get() != null) {
+                RECORDING.get().add(new CapturedQuery(sql, List.copyOf(bindings)));
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private interface Handler<T> {
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+        return (T) Proxy.newProxyInstance(SqlCapture.class.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.dto.ExpenseDto;
+import com.otaku.wallet.dto.SpendingAnalyticsDto;
+import com.otaku.wallet.exception.InvalidExpenseDataException;
+import com.otaku.wallet.session.UserIds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional  // 테스트 후 롤백
+class ExpenseAnalyticsServiceTest {
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private ExpenseAnalyticsService analyticsService;
+
+    // 테스트마다 집계가 겹치지 않도록 전용 userId 사용
+    private static final UUID TEST_USER_ID = UserIds.next();
+
+    @Test
+    @DisplayName("월별/카테고리별/별점별 지출을 집계한다")
+    void getOverview() {
+        // given
+        create(10000, ExpenseCategory.GOODS, 5, LocalDate.of(2024, 10, 3));
+        create(20000, ExpenseCategory.GOODS, 3, LocalDate.of(2024, 12, 1));
+        create(35000, ExpenseCategory.GAME, 3, LocalDate.of(2024, 12, 31));
+        create(99000, ExpenseCategory.EVENT, 4, LocalDate.of(2025, 1, 1));   // 기간 밖
+
+        // when
+        SpendingAnalyticsDto.Overview overview = analyticsService.getOverview(
+                TEST_USER_ID, YearMonth.of(2024, 10), YearMonth.of(2024, 12));
+
+        // then - 지출 없는 11월도 0으로 포함
+        assertEquals(List.of(YearMonth.of(2024, 10), YearMonth.of(2024, 11), YearMonth.of(2024, 12)),
+                overview.getMonthly().stream().map(SpendingAnalyticsDto.MonthlySpending::getMonth).toList());
+        assertEquals(List.of(10000L, 0L, 55000L),
+                overview.getMonthly().stream().map(SpendingAnalyticsDto.MonthlySpending::getTotalAmount).toList());
+        assertEquals(0L, overview.getMonthly().get(0).getDisplayAmount());  // 5점 → 0원
+
+        // 카테고리는 총액 많은 순
+        assertEquals(List.of(ExpenseCategory.GAME, ExpenseCategory.GOODS),
+                overview.getByCategory().stream().map(SpendingAnalyticsDto.CategorySpending::getCategory).toList());
+        assertEquals(2L, overview.getByCategory().get(1).getExpenseCount());
+
+        // 별점은 높은 순
+        assertEquals(List.of(5, 3),
+                overview.getByRating().stream().map(SpendingAnalyticsDto.RatingSpending::getSatisfactionRating).toList());
+        assertEquals(55000L, overview.getByRating().get(1).getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("수정/삭제로 구간이 바뀌면 집계도 옮겨간다")
+    void overviewFollowsUpdates() {
+        // given
+        ExpenseDto.Response figure = create(50000, ExpenseCategory.GOODS, 4, LocalDate.of(2024, 11, 20));
+        ExpenseDto.Response book = create(10000, ExpenseCategory.BOOK, 3, LocalDate.of(2024, 11, 21));
+
+        // when - 피규어를 12월 5점으로 옮기고, 만화책 삭제
+        expenseService.updateExpense(TEST_USER_ID, figure.getId(), new ExpenseDto.Request(
+                50000L, ExpenseCategory.GOODS, "피규어", 5, LocalDate.of(2024, 12, 2)
+        ), null);
+        expenseService.deleteExpense(TEST_USER_ID, book.getId());
+
+        // then
+        SpendingAnalyticsDto.Overview overview = analyticsService.getOverview(
+                TEST_USER_ID, YearMonth.of(2024, 11), YearMonth.of(2024, 12));
+        assertEquals(0L, overview.getMonthly().get(0).getExpenseCount());
+        assertEquals(1L, overview.getMonthly().get(1).getExpenseCount());
+        assertEquals(1, overview.getByCategory().size());
+        assertEquals(5, overview.getByRating().get(0).getSatisfactionRating());
+    }
+
+    @Test
+    @DisplayName("주별 지출은 월요일 시작 주 단위로 묶인다")
+    void getWeekly() {
+        // given - 2024-12-02(월) ~ 2024-12-15(일) 두 주
+        create(10000, ExpenseCategory.GOODS, 3, LocalDate.of(2024, 12, 2));
+        create(20000, ExpenseCategory.GAME, 3, LocalDate.of(2024, 12, 8));
+        create(30000, ExpenseCategory.BOOK, 5, LocalDate.of(2024, 12, 9));
+
+        // when - 중간 날짜로 시작해도 그 주의 월요일부터
+        SpendingAnalyticsDto.Weekly weekly = analyticsService.getWeekly(
+                TEST_USER_ID, LocalDate.of(2024, 12, 4), LocalDate.of(2024, 12, 15));
+
+        // then
+        assertEquals(LocalDate.of(2024, 12, 2), weekly.getFrom());
+        assertEquals(2, weekly.getWeekly().size());
+        assertEquals(30000L, weekly.getWeekly().get(0).getTotalAmount());
+        assertEquals(2L, weekly.getWeekly().get(0).getExpenseCount());
+        assertEquals(LocalDate.of(2024, 12, 9), weekly.getWeekly().get(1).getWeekStart());
+        assertEquals(0L, weekly.getWeekly().get(1).getDisplayAmount());
+    }
+
+    @Test
+    @DisplayName("시작이 끝보다 늦으면 예외 발생")
+    void invalidRange() {
+        assertThrows(InvalidExpenseDataException.class, () ->
+                analyticsService.getOverview(TEST_USER_ID, YearMonth.of(2024, 12), YearMonth.of(2024, 1)));
+        assertThrows(InvalidExpenseDataException.class, () ->
+                analyticsService.getWeekly(TEST_USER_ID, LocalDate.of(2024, 12, 31), LocalDate.of(2024, 12, 1)));
+    }
+
+    private ExpenseDto.Response create(long amount, ExpenseCategory category, int rating, LocalDate date) {
+        return expenseService.createExpense(TEST_USER_ID, new ExpenseDto.Request(
+                amount, category, category.getDisplayName(), rating, date
+        ));
+    }
+}
@@ -0,0 +1,263 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.config.CacheConfig;
+import com.otaku.wallet.config.SecondLevelCacheConfig;
+import com.otaku.wallet.domain.Expense;
+import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.dto.CacheStatsDto;
+import com.otaku.wallet.dto.ExpenseDto;
+import com.otaku.wallet.dto.RevisionedDto;
+import com.otaku.wallet.exception.ExpenseNotFoundException;
+import com.otaku.wallet.session.UserIds;
+import jakarta.persistence.Cache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 캐시는 커밋 이후에 저장/제거되므로 롤백 없이 실제 커밋으로 확인 (사용자 ID는 매번 새로 생성)
+@SpringBootTest
+class ExpenseCacheTest {
+
+    @Autowired
+    private ExpenseService service;
+
+    private static final String SECOND_LEVEL_EXPENSE = "hibernate." + SecondLevelCacheConfig.EXPENSE_REGION;
+
+    @Autowired
+    private CacheStatsService cacheStatsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 사용자의 통계 재조회는 캐시에서 응답한다")
+    void statisticsAreCached() {
+        // given
+        UUID userId = UserIds.next();
+        service.createExpense(userId, new ExpenseDto.Request(
+                10000L, ExpenseCategory.GOODS, "굿즈", 3, LocalDate.now()
+        ));
+        service.getStatistics(userId);
+        long hits = stats(CacheConfig.STATISTICS).getHitCount();
+
+        // when
+        service.getStatistics(userId);
+
+        // then
+        assertEquals(hits + 1, stats(CacheConfig.STATISTICS).getHitCount());
+    }
+
+    @Test
+    @DisplayName("조회 캐시 적중/미적중이 지표로 등록된다")
+    void cacheMetricsAreRegistered() {
+        // given
+        UUID userId = UserIds.next();
+        service.getStatistics(userId);
+
+        // when
+        FunctionCounter hits = meterRegistry.find("cache.gets")
+                .tags("cache", CacheConfig.STATISTICS, "result", "hit")
+                .functionCounter();
+
+        // then
+        assertNotNull(hits);
+        assertEquals(stats(CacheConfig.STATISTICS).getHitCount(), (long) hits.count());
+    }
+
+    @Test
+    @DisplayName("등록/수정/삭제 후에는 해당 사용자의 캐시가 비워진다")
+    void writesEvictUserEntries() {
+        // given
+        UUID userId = UserIds.next();
+        ExpenseDto.Response created = service.createExpense(userId, new ExpenseDto.Request(
+                10000L, ExpenseCategory.GOODS, "굿즈", 3, LocalDate.now()
+        ));
+        assertEquals(1, service.getAllExpenses(userId).getBody().size());
+        assertEquals(10000, service.getStatistics(userId).getBody().getTotalAmount());
+        assertEquals(3, service.getExpense(userId, created.getId()).getSatisfactionRating());
+
+        // when - 추가 등록 + 수정
+        service.createExpense(userId, new ExpenseDto.Request(
+                5000L, ExpenseCategory.FOOD, "라멘", 4, LocalDate.now()
+        ));
+        service.updateExpense(userId, created.getId(), new ExpenseDto.Request(
+                10000L, ExpenseCategory.GOODS, "굿즈", 5, LocalDate.now()
+        ), null);
+
+        // then - 캐시가 아닌 새 값
+        assertEquals(2, service.getAllExpenses(userId).getBody().size());
+        assertEquals(5000, service.getStatistics(userId).getBody().getDisplayAmount());
+        assertEquals(5, service.getExpense(userId, created.getId()).getSatisfactionRating());
+
+        // when - 삭제
+        service.deleteExpense(userId, created.getId());
+
+        // then
+        assertEquals(1, service.getAllExpenses(userId).getBody().size());
+        assertEquals(5000, service.getStatistics(userId).getBody().getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("목록/통계 캐시는 본문을 읽은 시점의 버전을 함께 저장해, ETag와 본문이 같은 시점을 가리킨다")
+    void cachedBodyKeepsItsRevision() {
+        // given - 목록/통계가 캐시됨
+        UUID userId = UserIds.next();
+        service.createExpense(userId, new ExpenseDto.Request(
+                7000L, ExpenseCategory.FOOD, "카레", 4, LocalDate.now()
+        ));
+        long cachedRevision = service.getRevision(userId);
+        assertEquals(cachedRevision, service.getAllExpenses(userId).getRevision());
+        assertEquals(cachedRevision, service.getStatistics(userId).getRevision());
+
+        // when - 다른 노드의 변경으로 버전만 올라가고 이 노드의 캐시는 아직 남아 있음
+        jdbcTemplate.update("UPDATE user_expense_summaries SET revision = revision + 1 WHERE user_id = ?", userId);
+
+        // then - 캐시된 본문에는 캐시 시점의 버전이 붙음
+        assertTrue(service.getRevision(userId) > cachedRevision);
+        RevisionedDto<List<ExpenseDto.Response>> expenses = service.getAllExpenses(userId);
+        assertEquals(cachedRevision, expenses.getRevision());
+        assertEquals(1, expenses.getBody().size());
+        assertEquals(cachedRevision, service.getStatistics(userId).getRevision());
+    }
+
+    @Test
+    @DisplayName("데이터 버전은 캐시하지 않고 매번 롤업 행에서 읽어, 변경 직후에도 새 값으로 응답한다")
+    void revisionChangesOnEveryWrite() {
+        // given
+        UUID userId = UserIds.next();
+        assertEquals(0L, service.getRevision(userId));
+        ExpenseDto.Response created = service.createExpense(userId, new ExpenseDto.Request(
+                8000L, ExpenseCategory.BOOK, "소설", 4, LocalDate.now()
+        ));
+        long afterCreate = service.getRevision(userId);
+
+        // when & then - 변경이 없으면 같은 값, 버전 캐시는 없음
+        assertTrue(afterCreate > 0);
+        assertEquals(afterCreate, service.getRevision(userId));
+        assertTrue(cacheStatsService.getCacheStats().stream().noneMatch(stats -> stats.getName().equals("revision")));
+
+        // when & then - 금액 변화가 없는 설명 수정도 버전을 올림
+        service.patchExpense(userId, created.getId(),
+                new ExpenseDto.Patch(null, null, "소설 (특장판)", null, null), null);
+        assertTrue(service.getRevision(userId) > afterCreate);
+    }
+
+    @Test
+    @DisplayName("수정/삭제 전 단건 조회는 2차 캐시에서 읽어 SELECT를 보내지 않는다")
+    void writesLoadExpenseFromSecondLevelCache() {
+        // given - 등록 커밋 시 엔티티가 2차 캐시에 저장됨
+        UUID userId = UserIds.next();
+        ExpenseDto.Response created = service.createExpense(userId, new ExpenseDto.Request(
+                12000L, ExpenseCategory.FOOD, "라멘", 3, LocalDate.now()
+        ));
+        // 백그라운드 outbox 처리도 엔티티를 읽고, 영역의 네이티브 적중 수에는 READ_WRITE 잠금 조회까지 섞이므로
+        // Hibernate의 Expense 엔티티 통계로 비교
+        EntityStatistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getEntityStatistics(Expense.class.getName());
+        long loads = statistics.getLoadCount();
+        long hits = statistics.getCacheHitCount();
+        long regionHits = stats(SECOND_LEVEL_EXPENSE).getHitCount();
+
+        // when
+        ExpenseDto.Response patched = service.patchExpense(userId, created.getId(),
+                new ExpenseDto.Patch(null, null, "라멘 곱빼기", null, null), created.getVersion());
+        service.deleteExpense(userId, created.getId());
+
+        // then
+        assertEquals("라멘 곱빼기", patched.getDescription());
+        assertEquals(hits + 2, statistics.getCacheHitCount());
+        assertTrue(stats(SECOND_LEVEL_EXPENSE).getHitCount() >= regionHits + 2);
+        assertEquals(loads, statistics.getLoadCount());
+    }
+
+    @Test
+    @DisplayName("2차 캐시에 있어도 다른 사용자의 지출은 조회되지 않는다")
+    void secondLevelCacheKeepsUserFilter() {
+        // given
+        UUID owner = UserIds.next();
+        ExpenseDto.Response created = service.createExpense(owner, new ExpenseDto.Request(
+                3000L, ExpenseCategory.ETC, "포토카드", 2, LocalDate.now()
+        ));
+
+        // when & then
+        assertThrows(ExpenseNotFoundException.class,
+                () -> service.deleteExpense(UserIds.next(), created.getId()));
+        assertEquals(3000, service.getExpense(owner, created.getId()).getAmount());
+    }
+
+    @Test
+    @DisplayName("일괄 삭제는 2차 캐시에서 지출을 읽고, 삭제한 지출만 캐시에서 뺀다")
+    void bulkDeleteEvictsOnlyDeletedEntries() {
+        // given - 세 건 모두 등록 커밋 시 2차 캐시에 저장됨
+        UUID userId = UserIds.next();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            ids.add(service.createExpense(userId, new ExpenseDto.Request(
+                    1000L * i, ExpenseCategory.GOODS, "키링 " + i, 3, LocalDate.now()
+            )).getId());
+        }
+        Cache cache = entityManagerFactory.getCache();
+        EntityStatistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getEntityStatistics(Expense.class.getName());
+        long loads = statistics.getLoadCount();
+
+        // when
+        int deleted = service.deleteExpenses(userId, ids.subList(0, 2));
+
+        // then - 삭제 전 조회는 SELECT 없이 캐시에서, 남은 지출의 캐시 항목은 그대로
+        assertEquals(2, deleted);
+        assertEquals(loads, statistics.getLoadCount());
+        assertTrue(cache.contains(Expense.class, ids.get(2)));
+        assertThrows(ExpenseNotFoundException.class, () -> service.getExpense(userId, ids.get(0)));
+        assertEquals(3000, service.getStatistics(userId).getBody().getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("2차 캐시에 없으면 id와 userId를 함께 조건으로 조회하고, 읽은 지출을 다시 캐시한다")
+    void secondLevelCacheMissQueriesByIdAndUserId() {
+        // given - 2차 캐시에서 빠진 지출
+        UUID owner = UserIds.next();
+        ExpenseDto.Response created = service.createExpense(owner, new ExpenseDto.Request(
+                7000L, ExpenseCategory.BOOK, "화보집", 4, LocalDate.now()
+        ));
+        Cache cache = entityManagerFactory.getCache();
+        cache.evict(Expense.class, created.getId());
+
+        // when & then - 다른 사용자로는 행 자체가 읽히지 않아 캐시에도 들어가지 않음
+        assertThrows(ExpenseNotFoundException.class,
+                () -> service.deleteExpense(UserIds.next(), created.getId()));
+        assertFalse(cache.contains(Expense.class, created.getId()));
+
+        // 본인 조회는 쿼리로 읽은 뒤 캐시에 저장
+        service.patchExpense(owner, created.getId(),
+                new ExpenseDto.Patch(null, null, "화보집 (한정판)", null, null), created.getVersion());
+        assertTrue(cache.contains(Expense.class, created.getId()));
+    }
+
+    private CacheStatsDto stats(String cacheName) {
+        return cacheStatsService.getCacheStats().stream()
+                .filter(stats -> stats.getName().equals(cacheName))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,50 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.dto.ImportResultDto;
+import com.otaku.wallet.dto.StatisticsDto;
+import com.otaku.wallet.session.UserIds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.StringReader;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 일괄 등록 이벤트(IMPORTED)는 커밋 시점에야 outbox에 flush되므로 롤백 없이 실제 커밋으로 확인
+@SpringBootTest
+class ExpenseImportCommitTest {
+
+    @Autowired
+    private ExpenseImportService importService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Test
+    @DisplayName("일괄 등록이 커밋되고 통계에도 반영된다")
+    void importCommits() {
+        // given
+        UUID userId = UserIds.next();
+        String csv = """
+                amount,category,satisfactionRating,purchaseDate
+                20000,BOOK,4,2024-12-01
+                8000,FOOD,5,2024-12-02
+                """;
+
+        // when
+        ImportResultDto result = importService.importCsv(userId, new StringReader(csv));
+
+        // then
+        assertEquals(2, result.getImportedCount());
+        assertEquals(2, expenseService.getAllExpenses(userId).getBody().size());
+
+        StatisticsDto stats = expenseService.getStatistics(userId).getBody();
+        assertEquals(28000, stats.getTotalAmount());
+        assertEquals(20000, stats.getDisplayAmount());
+        assertEquals(1L, stats.getSatisfiedCount());
+        assertEquals(2L, stats.getTotalCount());
+    }
+}
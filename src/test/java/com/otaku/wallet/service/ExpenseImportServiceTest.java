@@ -0,0 +1,108 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.dto.ExpenseDto;
+import com.otaku.wallet.dto.ImportResultDto;
+import com.otaku.wallet.dto.StatisticsDto;
+import com.otaku.wallet.exception.InvalidExpenseDataException;
+import com.otaku.wallet.session.UserIds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "otaku.expense.import.batch-size=2")
+@Transactional  // 테스트 후 롤백
+class ExpenseImportServiceTest {
+
+    @Autowired
+    private ExpenseImportService importService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    private static final UUID TEST_USER_ID = UserIds.next();
+
+    @Test
+    @DisplayName("JSON 배열로 여러 지출을 한 번에 등록한다")
+    void importJson() throws Exception {
+        // given
+        String json = """
+                [
+                  {"amount": 50000, "category": "GOODS", "description": "피규어", "satisfactionRating": 5, "purchaseDate": "2024-12-01"},
+                  {"amount": 30000, "category": "EVENT", "description": "팬미팅", "satisfactionRating": 4, "purchaseDate": "2024-12-02"},
+                  {"amount": 15000, "category": "STREAMING", "satisfactionRating": 3, "purchaseDate": "2024-12-03"}
+                ]
+                """;
+
+        // when
+        ImportResultDto result = importService.importJson(TEST_USER_ID,
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertEquals(3, result.getImportedCount());
+        assertEquals(3, expenseService.getAllExpenses(TEST_USER_ID).getBody().size());
+
+        StatisticsDto stats = expenseService.getStatistics(TEST_USER_ID).getBody();
+        assertEquals(95000, stats.getTotalAmount());
+        assertEquals(45000, stats.getDisplayAmount());
+        assertEquals(1L, stats.getSatisfiedCount());
+    }
+
+    @Test
+    @DisplayName("CSV로 여러 지출을 한 번에 등록한다")
+    void importCsv() {
+        // given - 헤더 순서 무관, 따옴표 안 쉼표 허용
+        String csv = """
+                purchaseDate,amount,category,satisfactionRating,description
+                2024-12-01,20000,BOOK,4,"만화책, 한정판"
+                2024-12-02,8000,food,5,
+
+                2024-12-03,12000,GAME,2,\"""게임"" 패키지"
+                """;
+
+        // when
+        ImportResultDto result = importService.importCsv(TEST_USER_ID, new StringReader(csv));
+
+        // then
+        assertEquals(3, result.getImportedCount());
+        List<ExpenseDto.Response> expenses = expenseService.getAllExpenses(TEST_USER_ID).getBody();
+        assertTrue(expenses.stream().anyMatch(e -> "만화책, 한정판".equals(e.getDescription())));
+        assertTrue(expenses.stream().anyMatch(e -> "\"게임\" 패키지".equals(e.getDescription())));
+        assertTrue(expenses.stream().anyMatch(e -> e.getPurchaseDate().equals(LocalDate.of(2024, 12, 2))
+                && e.getDisplayAmount() == 0));
+    }
+
+    @Test
+    @DisplayName("잘못된 행이 있으면 행 번호와 함께 예외가 발생한다")
+    void importInvalidRow() {
+        // given - 3행 별점 범위 초과
+        String csv = """
+                amount,category,satisfactionRating,purchaseDate
+                20000,BOOK,4,2024-12-01
+                8000,FOOD,9,2024-12-02
+                """;
+
+        // when & then
+        InvalidExpenseDataException ex = assertThrows(InvalidExpenseDataException.class, () ->
+                importService.importCsv(TEST_USER_ID, new StringReader(csv)));
+        assertTrue(ex.getMessage().startsWith("3행"));
+    }
+
+    @Test
+    @DisplayName("필수 컬럼이 없는 CSV는 거부한다")
+    void importCsvWithoutRequiredColumn() {
+        // when & then
+        assertThrows(InvalidExpenseDataException.class, () ->
+                importService.importCsv(TEST_USER_ID, new StringReader("amount,category\n1000,GOODS\n")));
+    }
+}
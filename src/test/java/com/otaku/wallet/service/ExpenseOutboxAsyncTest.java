@@ -0,0 +1,112 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.dto.ExpenseDto;
+import com.otaku.wallet.dto.RevisionedDto;
+import com.otaku.wallet.dto.StatisticsDto;
+import com.otaku.wallet.repository.ExpenseOutboxRepository;
+import com.otaku.wallet.session.UserIds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 비동기 롤업 모드 - 이벤트 처리는 별도 스레드에서 커밋 후 일어나므로 롤백 없이 실제 커밋으로 확인
+@SpringBootTest(properties = "otaku.outbox.rollup-mode=async")
+class ExpenseOutboxAsyncTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private ExpenseService service;
+
+    @Autowired
+    private ExpenseSummaryService summaryService;
+
+    @Autowired
+    private ExpenseOutboxRepository outboxRepository;
+
+    @Test
+    @DisplayName("요청은 outbox만 저장하고, 통계와 버전은 이벤트 처리 후 모아서 반영된다")
+    void appliesRollupAfterCommit() throws InterruptedException {
+        // given
+        UUID userId = UserIds.next();
+        ExpenseDto.Response figure = service.createExpense(userId, new ExpenseDto.Request(
+                50000L, ExpenseCategory.GOODS, "피규어", 4, LocalDate.now()
+        ));
+        service.createExpense(userId, new ExpenseDto.Request(
+                10000L, ExpenseCategory.BOOK, "만화책", 3, LocalDate.now()
+        ));
+
+        // when
+        service.patchExpense(userId, figure.getId(), new ExpenseDto.Patch(null, null, null, 5, null), null);
+
+        // then
+        awaitProcessed(userId);
+        assertTrue(service.getRevision(userId) > 0);
+        StatisticsDto stats = service.getStatistics(userId).getBody();
+        assertEquals(60000, stats.getTotalAmount());
+        assertEquals(10000, stats.getDisplayAmount());
+        assertEquals(1L, stats.getSatisfiedCount());
+        assertEquals(2L, stats.getTotalCount());
+        assertFalse(summaryService.verify(userId).hasDrift());
+    }
+
+    @Test
+    @DisplayName("처리 전 재계산해도 대기 중인 변경분이 두 번 반영되지 않는다")
+    void rebuildClearsPendingRollups() throws InterruptedException {
+        // given
+        UUID userId = UserIds.next();
+        service.createExpense(userId, new ExpenseDto.Request(
+                20000L, ExpenseCategory.GAME, "게임", 3, LocalDate.now()
+        ));
+
+        // when - 이벤트 처리와 재계산 순서는 정해져 있지 않음
+        summaryService.rebuild(userId);
+        awaitProcessed(userId);
+
+        // then
+        assertEquals(20000, service.getStatistics(userId).getBody().getTotalAmount());
+        assertFalse(summaryService.verify(userId).hasDrift());
+    }
+
+    @Test
+    @DisplayName("금액 변화가 없는 수정도 이벤트 처리 후 버전이 오르고, 목록 캐시가 새 버전으로 다시 채워진다")
+    void bumpsRevisionAndEvictsListAfterProcessing() throws InterruptedException {
+        // given
+        UUID userId = UserIds.next();
+        ExpenseDto.Response ticket = service.createExpense(userId, new ExpenseDto.Request(
+                30000L, ExpenseCategory.EVENT, "콘서트", 4, LocalDate.now()
+        ));
+        awaitProcessed(userId);
+        long revision = service.getAllExpenses(userId).getRevision();
+
+        // when - 설명만 수정, 처리 전에 목록이 다시 캐시될 수 있음
+        service.patchExpense(userId, ticket.getId(), new ExpenseDto.Patch(null, null, "콘서트 (막콘)", null, null), null);
+        service.getAllExpenses(userId);
+        awaitProcessed(userId);
+
+        // then
+        RevisionedDto<List<ExpenseDto.Response>> expenses = service.getAllExpenses(userId);
+        assertTrue(expenses.getRevision() > revision);
+        assertEquals(service.getRevision(userId), expenses.getRevision());
+        assertEquals("콘서트 (막콘)", expenses.getBody().get(0).getDescription());
+    }
+
+    private void awaitProcessed(UUID userId) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (outboxRepository.findAll().stream().anyMatch(event -> event.getUserId().equals(userId))) {
+            if (System.nanoTime() > deadline) {
+                fail("outbox 이벤트가 " + TIMEOUT + " 안에 처리되지 않았습니다");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
@@ -2,28 +2,48 @@ package com.otaku.wallet.service;
 
 import com.otaku.wallet.domain.ExpenseCategory;
 import com.otaku.wallet.dto.ExpenseDto;
+import com.otaku.wallet.dto.ExpensePageDto;
+import com.otaku.wallet.dto.ExpenseSearchCondition;
 import com.otaku.wallet.dto.StatisticsDto;
+import com.otaku.wallet.exception.ExpenseConflictException;
 import com.otaku.wallet.exception.ExpenseNotFoundException;
+import com.otaku.wallet.exception.InvalidExpenseDataException;
+import com.otaku.wallet.session.UserIds;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Transactional  // 테스트 후 롤백
 class ExpenseServiceTest {
 
     @Autowired
     private ExpenseService service;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     // 테스트용 고정 userId
-    private static final String TEST_USER_ID = "test-user-123";
+    private static final UUID TEST_USER_ID = UserIds.next();
 
     // ===== 생성 테스트 =====
 
@@ -32,7 +52,7 @@ class ExpenseServiceTest {
     void createExpense() {
         // given
         ExpenseDto.Request request = new ExpenseDto.Request(
-                50000,
+                50000L,
                 ExpenseCategory.GOODS,
                 "피규어 구매",
                 4,
@@ -56,7 +76,7 @@ class ExpenseServiceTest {
     void createExpenseWithPerfectRating() {
         // given
         ExpenseDto.Request request = new ExpenseDto.Request(
-                50000,
+                50000L,
                 ExpenseCategory.GOODS,
                 "최고의 피규어!",
                 5,
@@ -80,7 +100,7 @@ class ExpenseServiceTest {
     void getExpense() {
         // given - 먼저 등록
         ExpenseDto.Request request = new ExpenseDto.Request(
-                30000, ExpenseCategory.EVENT, "팬미팅", 5, LocalDate.now()
+                30000L, ExpenseCategory.EVENT, "팬미팅", 5, LocalDate.now()
         );
         ExpenseDto.Response created = service.createExpense(TEST_USER_ID,request);
 
@@ -108,17 +128,17 @@ class ExpenseServiceTest {
     void getAllExpenses() {
         // given
         service.createExpense(TEST_USER_ID,new ExpenseDto.Request(
-                10000, ExpenseCategory.GOODS, "굿즈1", 3, LocalDate.of(2024, 12, 20)
+                10000L, ExpenseCategory.GOODS, "굿즈1", 3, LocalDate.of(2024, 12, 20)
         ));
         service.createExpense(TEST_USER_ID,new ExpenseDto.Request(
-                20000, ExpenseCategory.EVENT, "이벤트", 4, LocalDate.of(2024, 12, 22)
+                20000L, ExpenseCategory.EVENT, "이벤트", 4, LocalDate.of(2024, 12, 22)
         ));
         service.createExpense(TEST_USER_ID,new ExpenseDto.Request(
-                30000, ExpenseCategory.STREAMING, "구독", 5, LocalDate.of(2024, 12, 24)
+                30000L, ExpenseCategory.STREAMING, "구독", 5, LocalDate.of(2024, 12, 24)
         ));
 
         // when
-        List<ExpenseDto.Response> expenses = service.getAllExpenses(TEST_USER_ID);
+        List<ExpenseDto.Response> expenses = service.getAllExpenses(TEST_USER_ID).getBody();
 
         // then
         assertTrue(expenses.size() >= 3);
@@ -132,18 +152,172 @@ class ExpenseServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("목록 응답에도 생성/수정 시각이 채워진다")
+    void listResponseCarriesTimestamps() {
+        // given
+        ExpenseDto.Response created = service.createExpense(TEST_USER_ID, new ExpenseDto.Request(
+                15000L, ExpenseCategory.GOODS, "타임스탬프", 4, LocalDate.of(2024, 12, 21)
+        ));
+        ExpenseDto.Response single = service.getExpense(TEST_USER_ID, created.getId());
+
+        // when
+        ExpenseDto.Response listed = service.getAllExpenses(TEST_USER_ID).getBody().stream()
+                .filter(e -> e.getId() == created.getId())
+                .findFirst()
+                .orElseThrow();
+
+        // then - 프로젝션 경로도 단건 조회와 같은 값을 내려준다
+        assertNotNull(listed.getCreatedAt());
+        assertNotNull(listed.getUpdatedAt());
+        assertEquals(single.getCreatedAt(), listed.getCreatedAt());
+        assertEquals(single.getUpdatedAt(), listed.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("커서로 다음 페이지를 이어서 조회할 수 있다")
+    void getExpensePage() {
+        // given
+        UUID userId = UserIds.next();
+        for (int day = 1; day <= 5; day++) {
+            service.createExpense(userId, new ExpenseDto.Request(
+                    day * 1000L, ExpenseCategory.GOODS, "굿즈" + day, 3, LocalDate.of(2024, 12, day)
+            ));
+        }
+
+        // when
+        ExpensePageDto firstPage = service.getExpensePage(userId, null, 2);
+        ExpensePageDto secondPage = service.getExpensePage(userId, firstPage.getNextCursor(), 2);
+        ExpensePageDto lastPage = service.getExpensePage(userId, secondPage.getNextCursor(), 2);
+
+        // then
+        assertTrue(firstPage.isHasNext());
+        assertTrue(secondPage.isHasNext());
+        assertFalse(lastPage.isHasNext());
+        assertNull(lastPage.getNextCursor());
+
+        List<LocalDate> dates = new ArrayList<>();
+        for (ExpensePageDto page : List.of(firstPage, secondPage, lastPage)) {
+            page.getContent().forEach(e -> dates.add(e.getPurchaseDate()));
+        }
+        assertEquals(List.of(
+                LocalDate.of(2024, 12, 5), LocalDate.of(2024, 12, 4), LocalDate.of(2024, 12, 3),
+                LocalDate.of(2024, 12, 2), LocalDate.of(2024, 12, 1)
+        ), dates);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회 시 예외 발생")
+    void getExpensePageWithInvalidCursor() {
+        // when & then
+        assertThrows(InvalidExpenseDataException.class, () -> {
+            service.getExpensePage(TEST_USER_ID, "not-a-cursor", 10);
+        });
+    }
+
+    @Test
+    @DisplayName("카테고리, 별점, 날짜, 금액 조건으로 검색할 수 있다")
+    void searchExpenses() {
+        // given
+        UUID userId = UserIds.next();
+        service.createExpense(userId, new ExpenseDto.Request(
+                10000L, ExpenseCategory.GOODS, "굿즈", 5, LocalDate.of(2024, 11, 1)
+        ));
+        service.createExpense(userId, new ExpenseDto.Request(
+                30000L, ExpenseCategory.GAME, "게임", 4, LocalDate.of(2024, 12, 1)
+        ));
+        service.createExpense(userId, new ExpenseDto.Request(
+                50000L, ExpenseCategory.GOODS, "피규어", 4, LocalDate.of(2024, 12, 10)
+        ));
+        service.createExpense(userId, new ExpenseDto.Request(
+                70000L, ExpenseCategory.EVENT, "콘서트", 2, LocalDate.of(2024, 12, 20)
+        ));
+        service.createExpense(UserIds.next(), new ExpenseDto.Request(
+                30000L, ExpenseCategory.GAME, "다른 사용자", 4, LocalDate.of(2024, 12, 1)
+        ));
+
+        ExpenseSearchCondition condition = new ExpenseSearchCondition(
+                List.of(ExpenseCategory.GOODS, ExpenseCategory.GAME),
+                4, 5,
+                LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31),
+                20000L, null
+        );
+
+        // when
+        PagedModel<ExpenseDto.Response> result = service.searchExpenses(
+                userId, condition, PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "amount")));
+
+        // then
+        assertEquals(2, result.getMetadata().totalElements());
+        assertEquals(List.of(30000L, 50000L),
+                result.getContent().stream().map(ExpenseDto.Response::getAmount).toList());
+    }
+
+    @Test
+    @DisplayName("검색 결과는 기본적으로 최신순이며 페이지로 나뉜다")
+    void searchExpensesWithPaging() {
+        // given
+        UUID userId = UserIds.next();
+        for (int day = 1; day <= 5; day++) {
+            service.createExpense(userId, new ExpenseDto.Request(
+                    1000L, ExpenseCategory.GOODS, "굿즈" + day, 3, LocalDate.of(2024, 12, day)
+            ));
+        }
+
+        // when
+        PagedModel<ExpenseDto.Response> secondPage = service.searchExpenses(
+                userId, ExpenseSearchCondition.empty(), PageRequest.of(1, 2));
+
+        // then
+        assertEquals(5, secondPage.getMetadata().totalElements());
+        assertEquals(3, secondPage.getMetadata().totalPages());
+        assertEquals(List.of(LocalDate.of(2024, 12, 3), LocalDate.of(2024, 12, 2)),
+                secondPage.getContent().stream().map(ExpenseDto.Response::getPurchaseDate).toList());
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 항목으로 정렬하면 예외 발생")
+    void searchExpensesWithInvalidSort() {
+        // when & then
+        assertThrows(InvalidExpenseDataException.class, () -> {
+            service.searchExpenses(TEST_USER_ID, ExpenseSearchCondition.empty(),
+                    PageRequest.of(0, 10, Sort.by("description")));
+        });
+    }
+
+    @Test
+    @DisplayName("전체 지출을 스트리밍으로 조회할 수 있다")
+    void streamAllExpenses() {
+        // given
+        UUID userId = UserIds.next();
+        service.createExpense(userId, new ExpenseDto.Request(
+                10000L, ExpenseCategory.GOODS, "굿즈", 3, LocalDate.of(2024, 12, 1)
+        ));
+        service.createExpense(userId, new ExpenseDto.Request(
+                20000L, ExpenseCategory.EVENT, "이벤트", 5, LocalDate.of(2024, 12, 2)
+        ));
+
+        // when
+        List<ExpenseDto.Response> streamed = new ArrayList<>();
+        service.streamAllExpenses(userId, streamed::add);
+
+        // then
+        assertEquals(2, streamed.size());
+        assertEquals(LocalDate.of(2024, 12, 2), streamed.get(0).getPurchaseDate());
+    }
+
     @Test
     @DisplayName("카테고리별로 지출을 조회할 수 있다")
     void getExpensesByCategory() {
         // given
         service.createExpense(TEST_USER_ID,new ExpenseDto.Request(
-                10000, ExpenseCategory.GOODS, "굿즈1", 3, LocalDate.now()
+                10000L, ExpenseCategory.GOODS, "굿즈1", 3, LocalDate.now()
         ));
         service.createExpense(TEST_USER_ID,new ExpenseDto.Request(
-                20000, ExpenseCategory.GOODS, "굿즈2", 4, LocalDate.now()
+                20000L, ExpenseCategory.GOODS, "굿즈2", 4, LocalDate.now()
         ));
         service.createExpense(TEST_USER_ID,new ExpenseDto.Request(
-                30000, ExpenseCategory.EVENT, "이벤트", 5, LocalDate.now()
+                30000L, ExpenseCategory.EVENT, "이벤트", 5, LocalDate.now()
         ));
 
         // when
@@ -161,13 +335,13 @@ class ExpenseServiceTest {
     void getSatisfiedExpenses() {
         // given
         service.createExpense(TEST_USER_ID,new ExpenseDto.Request(
-                10000, ExpenseCategory.GOODS, "별로", 3, LocalDate.now()
+                10000L, ExpenseCategory.GOODS, "별로", 3, LocalDate.now()
         ));
         service.createExpense(TEST_USER_ID,new ExpenseDto.Request(
-                20000, ExpenseCategory.EVENT, "최고!", 5, LocalDate.now()
+                20000L, ExpenseCategory.EVENT, "최고!", 5, LocalDate.now()
         ));
         service.createExpense(TEST_USER_ID,new ExpenseDto.Request(
-                30000, ExpenseCategory.STREAMING, "완벽!", 5, LocalDate.now()
+                30000L, ExpenseCategory.STREAMING, "완벽!", 5, LocalDate.now()
         ));
 
         // when
@@ -188,17 +362,17 @@ class ExpenseServiceTest {
     void getStatistics() {
         // given
         service.createExpense(TEST_USER_ID,new ExpenseDto.Request(
-                50000, ExpenseCategory.GOODS, "피규어", 5, LocalDate.now()
+                50000L, ExpenseCategory.GOODS, "피규어", 5, LocalDate.now()
         ));  // displayAmount = 0
         service.createExpense(TEST_USER_ID,new ExpenseDto.Request(
-                30000, ExpenseCategory.EVENT, "팬미팅", 4, LocalDate.now()
+                30000L, ExpenseCategory.EVENT, "팬미팅", 4, LocalDate.now()
         ));  // displayAmount = 30000
         service.createExpense(TEST_USER_ID,new ExpenseDto.Request(
-                15000, ExpenseCategory.STREAMING, "구독", 3, LocalDate.now()
+                15000L, ExpenseCategory.STREAMING, "구독", 3, LocalDate.now()
         ));  // displayAmount = 15000
 
         // when
-        StatisticsDto stats = service.getStatistics(TEST_USER_ID);
+        StatisticsDto stats = service.getStatistics(TEST_USER_ID).getBody();
 
         // then
         assertTrue(stats.getTotalAmount() >= 95000);      // 50000 + 30000 + 15000
@@ -215,6 +389,45 @@ class ExpenseServiceTest {
         System.out.println("전체 지출: " + stats.getTotalCount() + "개");
     }
 
+    @Test
+    @DisplayName("통계 조회는 SQL 한 번으로 끝난다")
+    void getStatisticsInSingleQuery() {
+        // given
+        service.createExpense(TEST_USER_ID,new ExpenseDto.Request(
+                50000L, ExpenseCategory.GOODS, "피규어", 5, LocalDate.now()
+        ));
+        service.createExpense(TEST_USER_ID,new ExpenseDto.Request(
+                30000L, ExpenseCategory.EVENT, "팬미팅", 4, LocalDate.now()
+        ));
+        entityManager.flush();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        StatisticsDto stats = service.getStatistics(TEST_USER_ID).getBody();
+
+        // then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(stats.getTotalAmount() - stats.getDisplayAmount(), stats.getSavedAmount());
+        assertTrue(stats.getSatisfiedCount() >= 1);
+        assertTrue(stats.getTotalCount() >= 2);
+    }
+
+    @Test
+    @DisplayName("지출이 없으면 통계는 0이다")
+    void getStatisticsWithoutExpenses() {
+        // when
+        StatisticsDto stats = service.getStatistics(UserIds.next()).getBody();
+
+        // then
+        assertEquals(0, stats.getTotalAmount());
+        assertEquals(0, stats.getDisplayAmount());
+        assertEquals(0, stats.getSavedAmount());
+        assertEquals(0L, stats.getSatisfiedCount());
+        assertEquals(0L, stats.getTotalCount());
+    }
+
     // ===== 수정 테스트 =====
 
     @Test
@@ -222,16 +435,16 @@ class ExpenseServiceTest {
     void updateExpense() {
         // given - 4점으로 등록
         ExpenseDto.Request createRequest = new ExpenseDto.Request(
-                50000, ExpenseCategory.GOODS, "피규어", 4, LocalDate.now()
+                50000L, ExpenseCategory.GOODS, "피규어", 4, LocalDate.now()
         );
         ExpenseDto.Response created = service.createExpense(TEST_USER_ID,createRequest);
         assertEquals(50000, created.getDisplayAmount());  // 4점 → 원가
 
         // when - 5점으로 변경
         ExpenseDto.Request updateRequest = new ExpenseDto.Request(
-                50000, ExpenseCategory.GOODS, "최고의 피규어!", 5, LocalDate.now()
+                50000L, ExpenseCategory.GOODS, "최고의 피규어!", 5, LocalDate.now()
         );
-        ExpenseDto.Response updated = service.updateExpense(TEST_USER_ID, created.getId(), updateRequest);
+        ExpenseDto.Response updated = service.updateExpense(TEST_USER_ID, created.getId(), updateRequest, null);
 
         // then
         assertEquals(0, updated.getDisplayAmount());  // 5점 → 0원!
@@ -244,22 +457,62 @@ class ExpenseServiceTest {
     void updateCategory() {
         // given
         ExpenseDto.Request createRequest = new ExpenseDto.Request(
-                30000, ExpenseCategory.GOODS, "이벤트 굿즈", 5, LocalDate.now()
+                30000L, ExpenseCategory.GOODS, "이벤트 굿즈", 5, LocalDate.now()
         );
         ExpenseDto.Response created = service.createExpense(TEST_USER_ID,createRequest);
         assertEquals(ExpenseCategory.GOODS, created.getCategory());
 
         // when - GOODS → EVENT
         ExpenseDto.Request updateRequest = new ExpenseDto.Request(
-                30000, ExpenseCategory.EVENT, "이벤트 굿즈", 5, LocalDate.now()
+                30000L, ExpenseCategory.EVENT, "이벤트 굿즈", 5, LocalDate.now()
         );
-        ExpenseDto.Response updated = service.updateExpense(TEST_USER_ID, created.getId(), updateRequest);
+        ExpenseDto.Response updated = service.updateExpense(TEST_USER_ID, created.getId(), updateRequest, null);
 
         // then
         assertEquals(ExpenseCategory.EVENT, updated.getCategory());
         assertEquals("🎫", updated.getCategoryEmoji());  // 이모지도 변경!
     }
 
+    @Test
+    @DisplayName("PATCH는 보낸 항목만 수정하고 버전을 올린다")
+    void patchExpense() {
+        // given - 4점 20000원
+        ExpenseDto.Response created = service.createExpense(TEST_USER_ID, new ExpenseDto.Request(
+                20000L, ExpenseCategory.BOOK, "만화책 세트", 4, LocalDate.now()
+        ));
+
+        // when - 금액만 수정
+        ExpenseDto.Response patched = service.patchExpense(TEST_USER_ID, created.getId(),
+                new ExpenseDto.Patch(25000L, null, null, null, null), created.getVersion());
+
+        // then
+        assertEquals(25000, patched.getAmount());
+        assertEquals(25000, patched.getDisplayAmount());  // 표시액도 다시 계산
+        assertEquals(ExpenseCategory.BOOK, patched.getCategory());
+        assertEquals("만화책 세트", patched.getDescription());
+        assertEquals(created.getVersion() + 1, patched.getVersion());
+        assertEquals(25000, service.getStatistics(TEST_USER_ID).getBody().getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("이전 버전으로 수정하면 덮어쓰지 않고 거절한다")
+    void updateWithStaleVersion() {
+        // given - 다른 탭에서 먼저 수정
+        ExpenseDto.Response created = service.createExpense(TEST_USER_ID, new ExpenseDto.Request(
+                15000L, ExpenseCategory.FOOD, "콜라보 카페", 3, LocalDate.now()
+        ));
+        Long staleVersion = created.getVersion();
+        service.patchExpense(TEST_USER_ID, created.getId(),
+                new ExpenseDto.Patch(null, null, "콜라보 카페 2회차", null, null), staleVersion);
+
+        // when & then
+        assertThrows(ExpenseConflictException.class, () ->
+                service.updateExpense(TEST_USER_ID, created.getId(), new ExpenseDto.Request(
+                        15000L, ExpenseCategory.FOOD, "콜라보 카페", 5, LocalDate.now()
+                ), staleVersion));
+        assertEquals("콜라보 카페 2회차", service.getExpense(TEST_USER_ID, created.getId()).getDescription());
+    }
+
     // ===== 삭제 테스트 =====
 
     @Test
@@ -267,7 +520,7 @@ class ExpenseServiceTest {
     void deleteExpense() {
         // given
         ExpenseDto.Request request = new ExpenseDto.Request(
-                10000, ExpenseCategory.GOODS, "삭제될 지출", 3, LocalDate.now()
+                10000L, ExpenseCategory.GOODS, "삭제될 지출", 3, LocalDate.now()
         );
         ExpenseDto.Response created = service.createExpense(TEST_USER_ID,request);
 
@@ -280,6 +533,52 @@ class ExpenseServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("여러 지출을 한 번에 삭제하고 통계에 반영한다")
+    void deleteExpenses() {
+        // given
+        ExpenseDto.Response first = service.createExpense(TEST_USER_ID, new ExpenseDto.Request(
+                10000L, ExpenseCategory.GOODS, "굿즈", 3, LocalDate.now()
+        ));
+        ExpenseDto.Response second = service.createExpense(TEST_USER_ID, new ExpenseDto.Request(
+                20000L, ExpenseCategory.EVENT, "팬미팅", 5, LocalDate.now()
+        ));
+        ExpenseDto.Response kept = service.createExpense(TEST_USER_ID, new ExpenseDto.Request(
+                5000L, ExpenseCategory.FOOD, "라멘", 4, LocalDate.now()
+        ));
+
+        // when
+        int deleted = service.deleteExpenses(TEST_USER_ID, List.of(first.getId(), second.getId()));
+
+        // then
+        assertEquals(2, deleted);
+        assertThrows(ExpenseNotFoundException.class, () -> service.getExpense(TEST_USER_ID, first.getId()));
+        assertEquals(kept.getId(), service.getAllExpenses(TEST_USER_ID).getBody().get(0).getId());
+        StatisticsDto stats = service.getStatistics(TEST_USER_ID).getBody();
+        assertEquals(5000, stats.getTotalAmount());
+        assertEquals(1L, stats.getTotalCount());
+        assertEquals(0L, stats.getSatisfiedCount());
+    }
+
+    @Test
+    @DisplayName("없거나 다른 사용자의 지출이 섞여 있으면 아무것도 삭제하지 않는다")
+    void deleteExpensesWithUnknownId() {
+        // given
+        ExpenseDto.Response mine = service.createExpense(TEST_USER_ID, new ExpenseDto.Request(
+                10000L, ExpenseCategory.GOODS, "굿즈", 3, LocalDate.now()
+        ));
+        ExpenseDto.Response others = service.createExpense(UserIds.next(), new ExpenseDto.Request(
+                20000L, ExpenseCategory.EVENT, "팬미팅", 5, LocalDate.now()
+        ));
+
+        // when & then
+        assertThrows(ExpenseNotFoundException.class,
+                () -> service.deleteExpenses(TEST_USER_ID, List.of(mine.getId(), others.getId())));
+        assertThrows(InvalidExpenseDataException.class,
+                () -> service.deleteExpenses(TEST_USER_ID, List.of()));
+        assertEquals(10000, service.getExpense(TEST_USER_ID, mine.getId()).getAmount());
+    }
+
     @Test
     @DisplayName("존재하지 않는 지출 삭제 시 예외 발생")
     void deleteNotFoundExpense() {
@@ -0,0 +1,87 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.dto.ExpenseDto;
+import com.otaku.wallet.dto.StatisticsDto;
+import com.otaku.wallet.session.UserIds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 다른 트랜잭션이 먼저 만든 롤업 행과 부딪히는 경우 - 두 트랜잭션이 실제로 커밋되어야 하므로 롤백 없이 확인
+@SpringBootTest
+class ExpenseSummaryConcurrencyTest {
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private ExpenseSummaryService summaryService;
+
+    @Autowired
+    private SummaryRowCreator rowCreator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("첫 지출과 동시에 다른 트랜잭션이 롤업 행을 만들어도 중복 키를 넘기고 커밋된다")
+    void createsSummaryRowConcurrently() throws Exception {
+        // given - 다른 트랜잭션이 같은 사용자의 롤업 행을 만들고 아직 커밋하지 않음
+        UUID userId = UserIds.next();
+        CountDownLatch rowCreated = new CountDownLatch(1);
+        CountDownLatch expenseStarted = new CountDownLatch(1);
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    rowCreator.createSummary(userId);
+                    rowCreated.countDown();
+                    await(expenseStarted);
+                    // 지출 트랜잭션이 같은 키의 INSERT에서 기다리는 동안 커밋
+                    sleep(500);
+                }));
+        await(rowCreated);
+
+        // when - UPDATE는 0건, 행 생성은 중복 키로 실패한 뒤 다시 UPDATE
+        CompletableFuture<ExpenseDto.Response> created = CompletableFuture.supplyAsync(() ->
+                expenseService.createExpense(userId, new ExpenseDto.Request(
+                        30000L, ExpenseCategory.GOODS, "포토카드", 4, LocalDate.now()
+                )));
+        expenseStarted.countDown();
+        other.get(10, TimeUnit.SECONDS);
+
+        // then
+        assertNotNull(created.get(10, TimeUnit.SECONDS).getId());
+        StatisticsDto stats = expenseService.getStatistics(userId).getBody();
+        assertEquals(30000, stats.getTotalAmount());
+        assertEquals(1L, stats.getTotalCount());
+        assertFalse(summaryService.verify(userId).hasDrift());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.otaku.wallet.service;
+
+import com.otaku.wallet.domain.ExpenseBucket;
+import com.otaku.wallet.domain.ExpenseCategory;
+import com.otaku.wallet.domain.ExpenseEventType;
+import com.otaku.wallet.domain.ExpenseMonthlyAggregate;
+import com.otaku.wallet.domain.ExpenseOutboxEvent;
+import com.otaku.wallet.domain.UserExpenseSummary;
+import com.otaku.wallet.dto.ExpenseDto;
+import com.otaku.wallet.dto.StatisticsDto;
+import com.otaku.wallet.repository.ExpenseMonthlyAggregateRepository;
+import com.otaku.wallet.repository.ExpenseOutboxRepository;
+import com.otaku.wallet.repository.UserExpenseSummaryRepository;
+import com.otaku.wallet.session.UserIds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional  // 테스트 후 롤백
+class ExpenseSummaryServiceTest {
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private ExpenseSummaryService summaryService;
+
+    @Autowired
+    private UserExpenseSummaryRepository summaryRepository;
+
+    @Autowired
+    private ExpenseMonthlyAggregateRepository aggregateRepository;
+
+    @Autowired
+    private ExpenseOutboxRepository outboxRepository;
+
+    @Autowired
+    private ExpenseOutboxProcessor outboxProcessor;
+
+    @Autowired
+    private SummaryRowCreator rowCreator;
+
+    // 테스트마다 롤업이 겹치지 않도록 전용 userId 사용
+    private static final UUID TEST_USER_ID = UserIds.next();
+
+    @Test
+    @DisplayName("등록/수정/삭제가 롤업에 그대로 반영된다")
+    void applyDeltas() {
+        // given - 4점 50000원, 3점 10000원
+        ExpenseDto.Response figure = expenseService.createExpense(TEST_USER_ID, new ExpenseDto.Request(
+                50000L, ExpenseCategory.GOODS, "피규어", 4, LocalDate.now()
+        ));
+        ExpenseDto.Response book = expenseService.createExpense(TEST_USER_ID, new ExpenseDto.Request(
+                10000L, ExpenseCategory.BOOK, "만화책", 3, LocalDate.now()
+        ));
+
+        // when - 피규어 4점 → 5점 (표시액 0원), 만화책 삭제
+        expenseService.updateExpense(TEST_USER_ID, figure.getId(), new ExpenseDto.Request(
+                50000L, ExpenseCategory.GOODS, "피규어", 5, LocalDate.now()
+        ), null);
+        expenseService.deleteExpense(TEST_USER_ID, book.getId());
+
+        // then
+        StatisticsDto stats = expenseService.getStatistics(TEST_USER_ID).getBody();
+        assertEquals(50000, stats.getTotalAmount());
+        assertEquals(0, stats.getDisplayAmount());
+        assertEquals(50000, stats.getSavedAmount());
+        assertEquals(1L, stats.getSatisfiedCount());
+        assertEquals(1L, stats.getTotalCount());
+        assertFalse(summaryService.verify(TEST_USER_ID).hasDrift());
+    }
+
+    @Test
+    @DisplayName("롤업 행은 없을 때만 만들어지고, 이미 있으면 값을 덮어쓰지 않는다")
+    void createRowsOnlyIfAbsent() {
+        // given - 첫 지출로 사용자 롤업과 월별 집계 행이 생김
+        UUID userId = UserIds.next();
+        LocalDate today = LocalDate.now();
+        expenseService.createExpense(userId, new ExpenseDto.Request(
+                20000L, ExpenseCategory.GAME, "DLC", 4, today
+        ));
+        ExpenseBucket bucket = ExpenseBucket.of(today, ExpenseCategory.GAME, 4);
+
+        // when - 동시에 들어온 다른 첫 지출처럼 다시 생성 시도
+        rowCreator.createSummary(userId);
+        rowCreator.createBucket(userId, bucket);
+
+        // then
+        assertEquals(20000, summaryRepository.findById(userId).orElseThrow().getTotalAmount());
+        List<ExpenseMonthlyAggregate> buckets = aggregateRepository.findByIdUserId(userId);
+        assertEquals(1, buckets.size());
+        assertEquals(20000, buckets.get(0).getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("5점에서 다른 점수로 바뀌면 표시 총액이 다시 늘어난다")
+    void applyDeltaWhenRatingLeavesFive() {
+        // given
+        ExpenseDto.Response created = expenseService.createExpense(TEST_USER_ID, new ExpenseDto.Request(
+                30000L, ExpenseCategory.EVENT, "콘서트", 5, LocalDate.now()
+        ));
+        assertEquals(0, expenseService.getStatistics(TEST_USER_ID).getBody().getDisplayAmount());
+
+        // when - 5점 → 2점, 금액도 수정
+        expenseService.updateExpense(TEST_USER_ID, created.getId(), new ExpenseDto.Request(
+                35000L, ExpenseCategory.EVENT, "콘서트", 2, LocalDate.now()
+        ), null);
+
+        // then
+        StatisticsDto stats = expenseService.getStatistics(TEST_USER_ID).getBody();
+        assertEquals(35000, stats.getTotalAmount());
+        assertEquals(35000, stats.getDisplayAmount());
+        assertEquals(0L, stats.getSatisfiedCount());
+    }
+
+    @Test
+    @DisplayName("재계산으로 어긋난 롤업을 찾아 바로잡는다")
+    void rebuildFixesDrift() {
+        // given - 롤업을 일부러 틀어놓음
+        expenseService.createExpense(TEST_USER_ID, new ExpenseDto.Request(
+                20000L, ExpenseCategory.GAME, "게임", 5, LocalDate.now()
+        ));
+        UUID driftedUserId = UserIds.next();
+        summaryRepository.save(UserExpenseSummary.of(driftedUserId, 1000, 1000, 0, 1));
+
+        // when
+        SummaryDrift drift = summaryService.rebuild(driftedUserId);
+        SummaryDrift clean = summaryService.rebuild(TEST_USER_ID);
+
+        // then
+        assertTrue(drift.hasDrift());
+        assertEquals(-1000, drift.totalAmount());
+        assertEquals(-1L, drift.totalCount());
+        assertFalse(summaryService.verify(driftedUserId).hasDrift());
+        assertFalse(clean.hasDrift());
+    }
+
+    @Test
+    @DisplayName("재계산으로 어긋난 월별 집계를 바로잡는다")
+    void rebuildFixesBucketDrift() {
+        // given - 실제 지출은 12월 게임 1건, 집계에는 없는 11월 구간이 남아 있음
+        expenseService.createExpense(TEST_USER_ID, new ExpenseDto.Request(
+                20000L, ExpenseCategory.GAME, "게임", 5, LocalDate.of(2024, 12, 1)
+        ));
+        aggregateRepository.save(ExpenseMonthlyAggregate.of(TEST_USER_ID,
+                ExpenseBucket.of(LocalDate.of(2024, 11, 1), ExpenseCategory.BOOK, 3), 5000, 5000, 1));
+
+        // when
+        SummaryDrift drift = summaryService.rebuild(TEST_USER_ID);
+
+        // then
+        assertEquals(1, drift.bucketDrift());
+        assertEquals(0L, drift.totalCount());
+        assertFalse(summaryService.verify(TEST_USER_ID).hasDrift());
+        assertEquals(1, aggregateRepository.findByIdUserId(TEST_USER_ID).size());
+    }
+
+    @Test
+    @DisplayName("합계가 int 범위(약 21억 원)를 넘어도 통계와 재계산 결과가 맞는다")
+    void statisticsBeyondIntRange() {
+        // given - 15억 원짜리 3건 (1건은 5점)
+        UUID userId = UserIds.next();
+        long amount = 1_500_000_000L;
+        for (int rating = 3; rating <= 5; rating++) {
+            expenseService.createExpense(userId, new ExpenseDto.Request(
+                    amount, ExpenseCategory.EVENT, "투어 " + rating, rating, LocalDate.of(2024, 12, rating)
+            ));
+        }
+
+        // when
+        StatisticsDto stats = expenseService.getStatistics(userId).getBody();
+
+        // then - 롤업, DB SUM 재계산 모두 45억 원
+        assertEquals(3 * amount, stats.getTotalAmount());
+        assertEquals(2 * amount, stats.getDisplayAmount());
+        assertEquals(amount, stats.getSavedAmount());
+        assertFalse(summaryService.verify(userId).hasDrift());
+    }
+
+    @Test
+    @DisplayName("변경마다 outbox 이벤트가 같은 트랜잭션에 기록되고, 처리해도 동기 롤업은 다시 반영되지 않는다")
+    void recordsOutboxEvents() {
+        // given
+        ExpenseDto.Response created = expenseService.createExpense(TEST_USER_ID, new ExpenseDto.Request(
+                40000L, ExpenseCategory.GOODS, "아크릴 스탠드", 4, LocalDate.now()
+        ));
+        expenseService.patchExpense(TEST_USER_ID, created.getId(),
+                new ExpenseDto.Patch(null, null, null, 5, null), null);
+
+        // when
+        List<ExpenseOutboxEvent> events = outboxRepository.findAll().stream()
+                .filter(event -> event.getUserId().equals(TEST_USER_ID))
+                .toList();
+        int processed = outboxProcessor.process(TEST_USER_ID);
+
+        // then
+        assertEquals(List.of(ExpenseEventType.CREATED, ExpenseEventType.UPDATED),
+                events.stream().map(ExpenseOutboxEvent::getType).toList());
+        assertEquals(-40000, events.get(1).getDelta().getDisplayAmount());
+        assertTrue(events.stream().noneMatch(ExpenseOutboxEvent::isRollupPending));
+        assertEquals(2, processed);
+        assertEquals(0, outboxProcessor.process(TEST_USER_ID));
+        assertEquals(0, expenseService.getStatistics(TEST_USER_ID).getBody().getDisplayAmount());
+        assertFalse(summaryService.verify(TEST_USER_ID).hasDrift());
+    }
+}
@@ -0,0 +1,188 @@
+package com.otaku.wallet.session;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트용 최소 Redis 호환 서버 (RESP2)
+ * RedisUserIdStore가 쓰는 명령(SET/SETEX/PSETEX/GET/GETEX/DEL/PTTL)과 연결 시 명령만 지원
+ */
+class FakeRedisServer implements AutoCloseable {
+
+    private record Entry(String value, long expiresAtMillis) {
+        boolean isExpired() {
+            return expiresAtMillis > 0 && expiresAtMillis <= System.currentTimeMillis();
+        }
+    }
+
+    private final Map<String, Entry> data = new ConcurrentHashMap<>();
+    private final ServerSocket serverSocket;
+
+    FakeRedisServer() throws IOException {
+        this.serverSocket = new ServerSocket(0);
+        Thread.ofVirtual().start(this::acceptLoop);
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    // 남은 TTL(ms), 키가 없으면 -2, TTL이 없으면 -1
+    long ttlMillis(String key) {
+        Entry entry = get(key);
+        if (entry == null) {
+            return -2;
+        }
+        return entry.expiresAtMillis() > 0 ? entry.expiresAtMillis() - System.currentTimeMillis() : -1;
+    }
+
+    Map<String, String> snapshot() {
+        Map<String, String> values = new ConcurrentHashMap<>();
+        data.forEach((key, entry) -> {
+            if (!entry.isExpired()) {
+                values.put(key, entry.value());
+            }
+        });
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread.ofVirtual().start(() -> serve(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             InputStream in = new BufferedInputStream(socket.getInputStream());
+             OutputStream out = socket.getOutputStream()) {
+            List<String> command;
+            while ((command = readCommand(in)) != null) {
+                out.write(execute(command).getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        } catch (IOException ignored) {
+            // 클라이언트 연결 종료
+        }
+    }
+
+    private String execute(List<String> command) {
+        String name = command.get(0).toUpperCase(Locale.ROOT);
+        return switch (name) {
+            case "PING" -> "+PONG\r\n";
+            case "SET" -> {
+                data.put(command.get(1), new Entry(command.get(2), expiry(command, 3)));
+                yield "+OK\r\n";
+            }
+            case "SETEX" -> {
+                long seconds = Long.parseLong(command.get(2));
+                data.put(command.get(1), new Entry(command.get(3), System.currentTimeMillis() + seconds * 1000));
+                yield "+OK\r\n";
+            }
+            case "PSETEX" -> {
+                long millis = Long.parseLong(command.get(2));
+                data.put(command.get(1), new Entry(command.get(3), System.currentTimeMillis() + millis));
+                yield "+OK\r\n";
+            }
+            case "GET" -> bulk(get(command.get(1)));
+            case "GETEX" -> {
+                Entry entry = get(command.get(1));
+                if (entry != null && command.size() > 2) {
+                    data.put(command.get(1), new Entry(entry.value(), expiry(command, 2)));
+                }
+                yield bulk(entry);
+            }
+            case "DEL" -> {
+                int deleted = 0;
+                for (String key : command.subList(1, command.size())) {
+                    deleted += data.remove(key) != null ? 1 : 0;
+                }
+                yield ":" + deleted + "\r\n";
+            }
+            case "PTTL" -> ":" + ttlMillis(command.get(1)) + "\r\n";
+            case "HELLO" -> "-ERR unknown command 'HELLO'\r\n";
+            default -> "+OK\r\n";   // CLIENT SETINFO, SELECT 등 연결 시 명령
+        };
+    }
+
+    private Entry get(String key) {
+        Entry entry = data.get(key);
+        if (entry != null && entry.isExpired()) {
+            data.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    // [EX seconds | PX millis] 옵션
+    private static long expiry(List<String> command, int from) {
+        for (int i = from; i + 1 < command.size(); i++) {
+            String option = command.get(i).toUpperCase(Locale.ROOT);
+            if (option.equals("EX")) {
+                return System.currentTimeMillis() + Long.parseLong(command.get(i + 1)) * 1000;
+            }
+            if (option.equals("PX")) {
+                return System.currentTimeMillis() + Long.parseLong(command.get(i + 1));
+            }
+        }
+        return 0;
+    }
+
+    private static String bulk(Entry entry) {
+        if (entry == null) {
+            return "$-1\r\n";
+        }
+        byte[] bytes = entry.value().getBytes(StandardCharsets.UTF_8);
+        return "$" + bytes.length + "\r\n" + entry.value() + "\r\n";
+    }
+
+    // *<n>\r\n ($<len>\r\n<data>\r\n){n}
+    private static List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<String> args = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] bytes = in.readNBytes(length);
+            in.readNBytes(2);
+            args.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return args;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\r') {
+                in.read();
+                return line.toString();
+            }
+            line.append((char) b);
+        }
+        return null;
+    }
+}
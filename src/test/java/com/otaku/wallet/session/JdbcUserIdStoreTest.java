@@ -0,0 +1,82 @@
+package com.otaku.wallet.session;
+
+import com.otaku.wallet.domain.UserSession;
+import com.otaku.wallet.repository.UserSessionRepository;
+import com.otaku.wallet.service.SessionService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "otaku.session.mode=jdbc")
+class JdbcUserIdStoreTest {
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private UserIdStore userIdStore;
+
+    @Autowired
+    private UserSessionRepository sessionRepository;
+
+    @Test
+    @DisplayName("쿠키 토큰으로 DB에 저장된 사용자 ID를 찾는다")
+    void roundTrip() {
+        // given - 첫 방문
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        UUID userId = sessionService.getUserId(new MockHttpServletRequest(), firstResponse);
+        Cookie cookie = firstResponse.getCookie("OTAKU_SESSION");
+
+        // when - 같은 쿠키로 다시 방문 (다른 노드라도 같은 DB)
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(cookie);
+        UUID again = sessionService.getUserId(request, new MockHttpServletResponse());
+
+        // then
+        assertInstanceOf(JdbcUserIdStore.class, userIdStore);
+        assertEquals(userId, again);
+        assertFalse(sessionRepository.existsById(cookie.getValue()));  // 토큰 원문은 저장하지 않음
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 세션이 삭제되고 새 사용자로 시작한다")
+    void clearSession() {
+        // given
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        UUID userId = sessionService.getUserId(new MockHttpServletRequest(), firstResponse);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(firstResponse.getCookie("OTAKU_SESSION"));
+
+        // when
+        sessionService.clearSession(request, new MockHttpServletResponse());
+
+        // then
+        assertFalse(sessionService.hasUserId(request, new MockHttpServletResponse()));
+        assertNotEquals(userId, sessionService.getUserId(request, new MockHttpServletResponse()));
+    }
+
+    @Test
+    @DisplayName("만료된 세션은 무시하고 정리 작업에서 삭제된다")
+    void expiredSession() {
+        // given
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        sessionService.getUserId(new MockHttpServletRequest(), firstResponse);
+        sessionRepository.save(new UserSession("expired-token-hash", UserIds.next(), Instant.now().minusSeconds(1)));
+
+        // when
+        ((JdbcUserIdStore) userIdStore).deleteExpired();
+
+        // then
+        assertFalse(sessionRepository.existsById("expired-token-hash"));
+        assertTrue(sessionRepository.count() >= 1);
+    }
+}
@@ -0,0 +1,100 @@
+package com.otaku.wallet.session;
+
+import com.otaku.wallet.config.SessionStoreProperties;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisUserIdStoreTest {
+
+    private static final UUID USER_ID = UserIds.next();
+
+    private FakeRedisServer server;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisUserIdStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new FakeRedisServer();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", server.getPort()),
+                LettuceClientConfiguration.builder()
+                        .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+                        .build());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        store = new RedisUserIdStore(
+                new SessionStoreProperties(SessionStoreProperties.Mode.REDIS, "OTAKU_SESSION",
+                        Duration.ofMinutes(30), false, null),
+                new StringRedisTemplate(connectionFactory));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionFactory.destroy();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("토큰 쿠키로 Redis에 저장된 사용자 ID를 찾고 TTL을 연장한다")
+    void roundTrip() {
+        // given
+        MockHttpServletResponse issued = new MockHttpServletResponse();
+        store.save(USER_ID, new MockHttpServletRequest(), issued);
+        Cookie cookie = issued.getCookie("OTAKU_SESSION");
+        String key = server.snapshot().keySet().iterator().next();
+
+        // when
+        Optional<UUID> userId = store.find(requestWith(cookie), new MockHttpServletResponse());
+
+        // then
+        assertEquals(Optional.of(USER_ID), userId);
+        assertTrue(key.startsWith("otaku:session:"));
+        assertFalse(key.contains(cookie.getValue()));  // 토큰 원문은 저장하지 않음
+        assertTrue(server.ttlMillis(key) > Duration.ofMinutes(29).toMillis());
+    }
+
+    @Test
+    @DisplayName("삭제한 세션이나 모르는 토큰은 찾지 못한다")
+    void clear() {
+        // given
+        MockHttpServletResponse issued = new MockHttpServletResponse();
+        store.save(USER_ID, new MockHttpServletRequest(), issued);
+        MockHttpServletRequest request = requestWith(issued.getCookie("OTAKU_SESSION"));
+
+        // when
+        MockHttpServletResponse cleared = new MockHttpServletResponse();
+        store.clear(request, cleared);
+
+        // then
+        assertTrue(server.snapshot().isEmpty());
+        assertEquals(0, cleared.getCookie("OTAKU_SESSION").getMaxAge());
+        assertTrue(store.find(request, new MockHttpServletResponse()).isEmpty());
+        assertTrue(store.find(requestWith(new Cookie("OTAKU_SESSION", "unknown")),
+                new MockHttpServletResponse()).isEmpty());
+    }
+
+    private static MockHttpServletRequest requestWith(Cookie cookie) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(cookie);
+        return request;
+    }
+}
@@ -0,0 +1,102 @@
+package com.otaku.wallet.session;
+
+import com.otaku.wallet.config.SessionStoreProperties;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignedCookieUserIdStoreTest {
+
+    private static final UUID USER_ID = UserIds.next();
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef";
+
+    private final SignedCookieUserIdStore store = new SignedCookieUserIdStore(properties(KEY, Duration.ofDays(30)));
+
+    @Test
+    @DisplayName("발급한 쿠키로 사용자 ID를 다시 읽을 수 있다")
+    void roundTrip() {
+        // given
+        MockHttpServletResponse issued = new MockHttpServletResponse();
+        store.save(USER_ID, new MockHttpServletRequest(), issued);
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Optional<UUID> userId = store.find(requestWith(issued.getCookie("OTAKU_SESSION")), response);
+
+        // then
+        assertEquals(Optional.of(USER_ID), userId);
+        assertTrue(issued.getHeader(HttpHeaders.SET_COOKIE).contains("HttpOnly"));
+        assertNull(response.getHeader(HttpHeaders.SET_COOKIE));  // 만료까지 충분하면 재발급하지 않음
+    }
+
+    @Test
+    @DisplayName("값이 바뀌었거나 다른 키로 서명된 쿠키는 무시한다")
+    void rejectsTamperedCookie() {
+        // given
+        MockHttpServletResponse issued = new MockHttpServletResponse();
+        store.save(USER_ID, new MockHttpServletRequest(), issued);
+        String value = issued.getCookie("OTAKU_SESSION").getValue();
+        String[] parts = value.split("\\.");
+
+        MockHttpServletResponse otherKey = new MockHttpServletResponse();
+        new SignedCookieUserIdStore(properties("fedcba9876543210fedcba9876543210", Duration.ofDays(30)))
+                .save(USER_ID, new MockHttpServletRequest(), otherKey);
+
+        // when & then
+        String forgedExpiry = parts[0] + "." + (Long.parseLong(parts[1]) + 1000) + "." + parts[2];
+        assertTrue(store.find(requestWith(new Cookie("OTAKU_SESSION", forgedExpiry)),
+                new MockHttpServletResponse()).isEmpty());
+        assertTrue(store.find(requestWith(otherKey.getCookie("OTAKU_SESSION")),
+                new MockHttpServletResponse()).isEmpty());
+        assertTrue(store.find(requestWith(new Cookie("OTAKU_SESSION", "garbage")),
+                new MockHttpServletResponse()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("만료 시간이 절반 이하로 남으면 쿠키를 다시 발급한다")
+    void reissuesBeforeExpiry() {
+        // given - 90초 뒤 만료되는 쿠키
+        SignedCookieUserIdStore shortLived = new SignedCookieUserIdStore(properties(KEY, Duration.ofSeconds(90)));
+        MockHttpServletResponse issued = new MockHttpServletResponse();
+        shortLived.save(USER_ID, new MockHttpServletRequest(), issued);
+
+        SignedCookieUserIdStore longer = new SignedCookieUserIdStore(properties(KEY, Duration.ofHours(1)));
+
+        // when - 만료 1시간 설정으로 읽으면 남은 시간(90초)이 절반(30분) 이하
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Optional<UUID> userId = longer.find(requestWith(issued.getCookie("OTAKU_SESSION")), response);
+
+        // then
+        assertEquals(Optional.of(USER_ID), userId);
+        assertNotNull(response.getCookie("OTAKU_SESSION"));
+    }
+
+    @Test
+    @DisplayName("서명 키가 짧으면 시작하지 않는다")
+    void requiresSigningKey() {
+        assertThrows(IllegalStateException.class, () ->
+                new SignedCookieUserIdStore(properties("short", Duration.ofDays(1))));
+        assertThrows(IllegalStateException.class, () ->
+                new SignedCookieUserIdStore(properties(null, Duration.ofDays(1))));
+    }
+
+    private static SessionStoreProperties properties(String key, Duration timeout) {
+        return new SessionStoreProperties(SessionStoreProperties.Mode.COOKIE, "OTAKU_SESSION", timeout, false, key);
+    }
+
+    private static MockHttpServletRequest requestWith(Cookie cookie) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(cookie);
+        return request;
+    }
+}
@@ -0,0 +1,44 @@
+package com.otaku.wallet.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserIdsTest {
+
+    @Test
+    @DisplayName("UUIDv7 버전/변형 비트를 가진다")
+    void hasVersion7() {
+        UUID userId = UserIds.next();
+
+        assertEquals(7, userId.version());
+        assertEquals(2, userId.variant());
+    }
+
+    @Test
+    @DisplayName("나중에 만든 ID가 더 크게 정렬된다")
+    void ordersByCreationTime() {
+        SplittableRandom random = new SplittableRandom(42);
+        UUID earlier = UserIds.of(1_700_000_000_000L, random);
+        UUID later = UserIds.of(1_700_000_000_001L, random);
+
+        assertTrue(earlier.compareTo(later) < 0);
+        assertEquals(1_700_000_000_000L, earlier.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    @DisplayName("16바이트로 변환했다가 그대로 복원한다")
+    void roundTripsBytes() {
+        UUID userId = UserIds.next();
+
+        byte[] bytes = UserIds.toBytes(userId);
+
+        assertEquals(16, bytes.length);
+        assertEquals(userId, UserIds.fromBytes(bytes));
+        assertThrows(IllegalArgumentException.class, () -> UserIds.fromBytes(new byte[15]));
+    }
+}